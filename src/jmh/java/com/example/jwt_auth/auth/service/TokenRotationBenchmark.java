@@ -0,0 +1,123 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.JwtAuthApplication;
+import com.example.jwt_auth.auth.dto.DeviceInfo;
+import com.example.jwt_auth.auth.dto.ReissueRefreshTokenRequest;
+import com.example.jwt_auth.auth.dto.SignInRequest;
+import com.example.jwt_auth.auth.dto.SignUpRequest;
+import com.example.jwt_auth.auth.dto.TokenResponse;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 회전(재발급) 1회당 JDBC 문장(왕복) 수 측정
+ * - 인메모리 H2로 애플리케이션 컨텍스트를 띄우고 Hibernate 통계(prepareStatementCount)로 문장 수를 셉니다.
+ * - idGeneration=identity는 META-INF/identity-id-orm.xml로 사용 기록의 ID 생성 전략을 변경 이전(IDENTITY)으로 되돌린 기준선,
+ *   table은 현재 매핑(pooled 테이블 생성기)입니다. 같은 하네스에서 변경 전후를 함께 측정합니다.
+ * - jdbcBatchSize=1은 배치 비활성화, 50은 application.yml 설정과 동일합니다.
+ * - 요청 트랜잭션에서는 사용 기록 INSERT가 한 건뿐이므로, 배치 효과는 쓰기 지연(writeBehind=true)에서 나타납니다.
+ * - 결과는 Trial 종료 시 "statements/rotation"으로 출력됩니다. (버퍼에 남은 사용 기록을 저장한 뒤 집계)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TokenRotationBenchmark {
+
+    private static final String USERNAME = "bench-user";
+    private static final String PASSWORD = "bench-password";
+
+    @Param({"identity", "table"})
+    private String idGeneration;
+
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+    private Statistics statistics;
+
+    private String refreshToken;
+    private long rotations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(JwtAuthApplication.class)
+                .web(WebApplicationType.NONE);
+        if ("identity".equals(idGeneration)) {
+            // 변경 이전 기준선: 사용 기록 ID를 IDENTITY로 생성 (INSERT 즉시 실행, 배치 불가)
+            application.properties("spring.jpa.mapping-resources=META-INF/identity-id-orm.xml");
+        }
+
+        context = application
+                .properties(
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.url=jdbc:h2:mem:rotation;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "jwt.refresh.history.write-behind=" + writeBehind,
+                        // 폴링 작업이 측정 구간의 문장 수에 섞이지 않도록 주기를 길게 설정
+                        "jwt.revocation.poll-interval=PT1H",
+                        "jwt.epoch.poll-interval=PT1H",
+                        "app.password-hashing.target-latency=PT0.01S",
+                        "oauth.google.client-id=bench", "oauth.google.client-secret=bench",
+                        "oauth.kakao.client-id=bench", "oauth.kakao.client-secret=bench",
+                        "oauth.naver.client-id=bench", "oauth.naver.client-secret=bench"
+                )
+                .run();
+
+        authService = context.getBean(AuthService.class);
+        statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        authService.signUp(SignUpRequest.builder()
+                .username(USERNAME)
+                .password(PASSWORD)
+                .email("bench@example.com")
+                .nickname("bench")
+                .role(Role.USER)
+                .build());
+        refreshToken = authService.signIn(new SignInRequest(USERNAME, PASSWORD), new DeviceInfo("jmh", "127.0.0.1"))
+                .refreshToken();
+
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // 쓰기 지연 버퍼에 남은 사용 기록까지 저장한 뒤 집계
+        context.getBean(RefreshTokenHistoryWriter.class).flush();
+
+        System.out.printf("%n[idGeneration=%s, writeBehind=%s, jdbcBatchSize=%d] statements/rotation: %.2f (%d statements, %d rotations)%n",
+                idGeneration,
+                writeBehind,
+                jdbcBatchSize,
+                (double) statistics.getPrepareStatementCount() / rotations,
+                statistics.getPrepareStatementCount(),
+                rotations);
+        context.close();
+    }
+
+    @Benchmark
+    public TokenResponse rotate() {
+        TokenResponse tokenResponse = authService.reissueRefreshToken(
+                new ReissueRefreshTokenRequest(refreshToken, USERNAME));
+        refreshToken = tokenResponse.refreshToken();
+        rotations++;
+        return tokenResponse;
+    }
+}
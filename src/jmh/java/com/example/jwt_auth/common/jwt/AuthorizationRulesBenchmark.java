@@ -0,0 +1,84 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.enums.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 개수에 따른 인가 규칙 조회 비용 비교
+ * - antPathMatcherLoop: 기존 방식 (모든 패턴을 AntPathMatcher로 순회)
+ * - compiledRules: 경로 트라이로 컴파일된 AuthorizationRules
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AuthorizationRulesBenchmark {
+
+    @Param({"10", "1000", "5000"})
+    private int ruleCount;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private Map<String, String> patternRules;
+    private AuthorizationRules compiledRules;
+
+    /** 마지막 규칙에 매칭되는 요청 경로 (순회 방식의 최악의 경우) */
+    private String lastRulePath;
+    /** 어떤 규칙에도 매칭되지 않는 요청 경로 */
+    private String unmatchedPath;
+
+    @Setup
+    public void setUp() {
+        patternRules = new LinkedHashMap<>();
+        AuthorizationRules.Builder builder = AuthorizationRules.builder();
+
+        for (int i = 0; i < ruleCount; i++) {
+            String pattern = (i % 2 == 0)
+                    ? "/api/v1/resource" + i + "/**"
+                    : "/api/v1/resource" + i + "/{id}/items";
+            Role role = (i % 3 == 0) ? Role.ADMIN : Role.USER;
+
+            patternRules.put(pattern, role.name());
+            builder.rule(pattern, role);
+        }
+        compiledRules = builder.build();
+
+        int last = ruleCount - 1;
+        lastRulePath = (last % 2 == 0)
+                ? "/api/v1/resource" + last + "/detail/42"
+                : "/api/v1/resource" + last + "/42/items";
+        unmatchedPath = "/api/v2/unknown/42";
+    }
+
+    @Benchmark
+    public String antPathMatcherLoop_lastRule() {
+        return antPathMatcherLoop(lastRulePath);
+    }
+
+    @Benchmark
+    public String antPathMatcherLoop_unmatched() {
+        return antPathMatcherLoop(unmatchedPath);
+    }
+
+    @Benchmark
+    public AuthorizationRules.Rule compiledRules_lastRule() {
+        return compiledRules.match("GET", lastRulePath);
+    }
+
+    @Benchmark
+    public AuthorizationRules.Rule compiledRules_unmatched() {
+        return compiledRules.match("GET", unmatchedPath);
+    }
+
+    private String antPathMatcherLoop(String path) {
+        for (Map.Entry<String, String> entry : patternRules.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
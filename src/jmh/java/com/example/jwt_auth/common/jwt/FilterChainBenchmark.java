@@ -0,0 +1,112 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import com.example.jwt_auth.auth.repository.RevokedAccessTokenRepository;
+import com.example.jwt_auth.auth.repository.RevokedSessionRepository;
+import com.example.jwt_auth.auth.repository.TokenEpochChangeRepository;
+import com.example.jwt_auth.common.config.FilterConfig;
+import com.example.jwt_auth.common.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증(JwtAuthenticationFilter) -> 인가(JwtAuthorizationFilter) 필터 체인 1회 통과 비용 측정
+ * - 목(mock) 서블릿 객체를 사용하며, 검증 토큰 캐시 사용 여부별로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FilterChainBenchmark {
+
+    private static final String SECRET = "T3h2U1FzY3Z0c3FqZ3R5bXQ1eG5kdXh2c3c4eW9mdG5q";
+
+    /** 필터 체인의 마지막 (컨트롤러 역할) */
+    private static final FilterChain TERMINAL = (request, response) -> {};
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private JwtAuthenticationFilter authenticationFilter;
+    private JwtAuthorizationFilter authorizationFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+        JwtProperties jwtProperties = new JwtProperties(
+                new JwtProperties.Cache(cacheEnabled, 10_000),
+                new JwtProperties.Revocation(100_000, 0.01, Duration.ofSeconds(30), Duration.ofHours(1)),
+                new JwtProperties.Epoch(Duration.ofSeconds(30)),
+                new JwtProperties.Refresh(
+                        Duration.ofSeconds(10),
+                        10_000,
+                        new JwtProperties.History(false, 4096, 200),
+                        new JwtProperties.Purge(1000, Duration.ofMillis(50), Duration.ofMinutes(10))
+                )
+        );
+
+        // 폐기 목록은 비어 있는 상태 (블룸 필터 조회 비용만 포함)
+        AccessTokenDenylist accessTokenDenylist = new AccessTokenDenylist(
+                Mockito.mock(RevokedAccessTokenRepository.class),
+                Mockito.mock(RevokedSessionRepository.class),
+                jwtProperties,
+                3600,
+                new SimpleMeterRegistry()
+        );
+        accessTokenDenylist.initialize();
+
+        TokenEpochRegistry tokenEpochRegistry = new TokenEpochRegistry(
+                Mockito.mock(TokenEpochChangeRepository.class),
+                event -> {},
+                jwtProperties,
+                3600
+        );
+        tokenEpochRegistry.initialize();
+
+        authenticationFilter = new JwtAuthenticationFilter(
+                jwtUtil,
+                new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()),
+                accessTokenDenylist,
+                tokenEpochRegistry
+        );
+        authorizationFilter = new JwtAuthorizationFilter(new FilterConfig().roleRules());
+
+        User user = User.builder()
+                .username("bench-user")
+                .nickname("bench")
+                .role(Role.USER)
+                .build();
+        authorizationHeader = "Bearer " + jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int filterChain() throws Exception {
+        return doFilterChain();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int filterChain_contended() throws Exception {
+        return doFilterChain();
+    }
+
+    private int doFilterChain() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/post");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        authenticationFilter.doFilter(request, response,
+                (req, res) -> authorizationFilter.doFilter(req, res, TERMINAL));
+
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "T3h2U1FzY3Z0c3FqZ3R5bXQ1eG5kdXh2c3c4eW9mdG5q";
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3600);
+        user = User.builder()
+                .username("bench-user")
+                .nickname("bench")
+                .role(Role.USER)
+                .build();
+        accessToken = jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String createAccessToken_contended() {
+        return jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RefreshTokenSecret createRefreshToken() {
+        return jwtUtil.createRefreshToken();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public RefreshTokenSecret createRefreshToken_contended() {
+        return jwtUtil.createRefreshToken();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(accessToken);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public JwtPrincipal verifyAccessToken() {
+        return jwtUtil.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public JwtPrincipal verifyAccessToken_contended() {
+        return jwtUtil.verifyAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jwt_auth.common.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 재발급 시 저장된 값과의 비교 비용
+ * - bcryptCheckpw: 기존 방식 (사용자의 토큰마다 BCrypt.checkpw)
+ * - selectorVerifier: selector 인덱스 조회 후 verifier SHA-256 해시 상수 시간 비교
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RefreshTokenVerificationBenchmark {
+
+    private String rawToken;
+    private String bcryptHash;
+
+    private byte[] storedVerifierHash;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil("T3h2U1FzY3Z0c3FqZ3R5bXQ1eG5kdXh2c3c4eW9mdG5q", 3600);
+        RefreshTokenSecret refreshToken = jwtUtil.createRefreshToken();
+
+        rawToken = refreshToken.value();
+        bcryptHash = BCrypt.hashpw(rawToken, BCrypt.gensalt());
+
+        storedVerifierHash = refreshToken.verifierHash();
+    }
+
+    @Benchmark
+    public boolean bcryptCheckpw() {
+        return BCrypt.checkpw(rawToken, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean selectorVerifier() {
+        return RefreshTokenSecret.parse(rawToken).matches(storedVerifierHash);
+    }
+}
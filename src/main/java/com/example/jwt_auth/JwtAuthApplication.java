@@ -1,15 +1,29 @@
 package com.example.jwt_auth;
 
 import com.example.jwt_auth.common.config.ImageUploadProperties;
+import com.example.jwt_auth.common.config.JdbcExecutorProperties;
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.config.OAuthLoginProperties;
 import com.example.jwt_auth.common.config.OAuthProperties;
+import com.example.jwt_auth.common.config.PasswordHashingProperties;
+import com.example.jwt_auth.common.config.ProfileImageMirrorProperties;
+import com.example.jwt_auth.common.config.UserCacheProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 @EnableConfigurationProperties({
 		ImageUploadProperties.class,
-		OAuthProperties.class
+		OAuthProperties.class,
+		JwtProperties.class,
+		PasswordHashingProperties.class,
+		UserCacheProperties.class,
+		JdbcExecutorProperties.class,
+		OAuthLoginProperties.class,
+		ProfileImageMirrorProperties.class
 })
 public class JwtAuthApplication {
 	public static void main(String[] args) {
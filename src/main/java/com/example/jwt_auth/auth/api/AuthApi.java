@@ -3,16 +3,21 @@ package com.example.jwt_auth.auth.api;
 import com.example.jwt_auth.auth.dto.*;
 import com.example.jwt_auth.auth.service.AuthService;
 import com.example.jwt_auth.auth.service.OAuthService;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
@@ -34,17 +39,17 @@ public class AuthApi {
     }
 
     @PostMapping("/signIn")
-    public ResponseEntity<TokenResponse> signIn(@RequestBody SignInRequest request, HttpServletResponse response) {
-        // 사용자 인증 후 액세스 토큰 및 리프레시 토큰 생성
-        TokenResponse tokenResponse = authService.signIn(request);
-
-        // 리프레시 토큰을 쿠키에 저장
-        Cookie cookie = createCookie(tokenResponse.refreshToken());
-        // 응답에 쿠키 추가
-        response.addCookie(cookie);
+    public ResponseEntity<TokenResponse> signIn(
+            @RequestBody SignInRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        // 사용자 인증 후 새 세션을 만들어 액세스 토큰 및 리프레시 토큰 생성
+        TokenResponse tokenResponse = authService.signIn(request, deviceInfo(httpRequest));
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                // 리프레시 토큰을 쿠키에 저장
+                .header(HttpHeaders.SET_COOKIE, createCookie(tokenResponse.refreshToken()).toString())
                 .body(TokenResponse.builder()
                         .accessToken(tokenResponse.accessToken())
                         .build());
@@ -52,50 +57,77 @@ public class AuthApi {
 
     @PostMapping("/refreshToken")
     public ResponseEntity<TokenResponse> reissueRefreshToken(
-            @RequestBody ReissueRefreshTokenRequest reissueRefreshTokenRequest,
-            HttpServletResponse response
+            @RequestBody ReissueRefreshTokenRequest reissueRefreshTokenRequest
     ) {
         // 리프레시 토큰이 DB에 존재하는지 확인하고, 존재할 경우 새로운 액세스 토큰과 리프레시 토큰을 생성
         TokenResponse tokenResponse = authService.reissueRefreshToken(reissueRefreshTokenRequest);
 
-        // 리프레시 토큰을 쿠키에 저장
-        Cookie cookie = createCookie(tokenResponse.refreshToken());
-        // 응답에 쿠키 추가
-        response.addCookie(cookie);
-
         return ResponseEntity
                 .status(HttpStatus.OK)
+                // 리프레시 토큰을 쿠키에 저장
+                .header(HttpHeaders.SET_COOKIE, createCookie(tokenResponse.refreshToken()).toString())
                 .body(TokenResponse.builder()
                         .accessToken(tokenResponse.accessToken())
                         .build());
     }
 
+    /**
+     * 소셜 로그인 (비동기 처리)
+     * - OAuth Provider 응답을 기다리는 동안 요청 스레드를 반환하고, 완료되면 응답을 작성합니다.
+     * - 응답은 다른 스레드에서 완성되므로 HttpServletResponse 대신 응답 헤더로 쿠키를 설정합니다.
+     */
     @PostMapping("/login/oauth")
-    public ResponseEntity<TokenResponse> oauthLogin(
+    public CompletableFuture<ResponseEntity<TokenResponse>> oauthLogin(
             @RequestBody OAuthLoginRequest request,
-            HttpServletResponse response
+            HttpServletRequest httpRequest
     ) {
         // OAuth 인증 후, 서버(OAuth가 아닌)에서 JWT Access/Refresh 토큰 발급
-        TokenResponse tokenResponse = oAuthService.oauthLogin(request.provider(), request.authorizationCode());
+        return oAuthService.oauthLogin(request.provider(), request.authorizationCode(), deviceInfo(httpRequest))
+                .thenApply(tokenResponse -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        // 리프레시 토큰을 쿠키에 저장
+                        .header(HttpHeaders.SET_COOKIE, createCookie(tokenResponse.refreshToken()).toString())
+                        .body(TokenResponse.builder()
+                                .accessToken(tokenResponse.accessToken())
+                                .build()));
+    }
 
-        // 리프레시 토큰을 쿠키에 저장
-        Cookie cookie = createCookie(tokenResponse.refreshToken());
-        response.addCookie(cookie);
+    @PostMapping("/signOut")
+    public ResponseEntity<Void> signOut(@RequestHeader("Authorization") String authorization) {
+        // "Bearer " 접두사를 제거한 액세스 토큰을 폐기하고, 리프레시 토큰 삭제
+        if (!authorization.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Bearer 토큰이 필요합니다.");
+        }
+        authService.signOut(authorization.substring(7));
 
         return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(TokenResponse.builder()
-                        .accessToken(tokenResponse.accessToken())
-                        .build());
+                .status(HttpStatus.NO_CONTENT)
+                .build();
+    }
+
+    @PostMapping("/signOutAll")
+    public ResponseEntity<Void> signOutAll(@RequestHeader("Authorization") String authorization) {
+        // 모든 기기에서 로그아웃 (발급된 모든 액세스/리프레시 토큰 무효화)
+        if (!authorization.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Bearer 토큰이 필요합니다.");
+        }
+        authService.signOutAll(authorization.substring(7));
+
+        return ResponseEntity
+                .status(HttpStatus.NO_CONTENT)
+                .build();
     }
 
-    private Cookie createCookie(String refreshToken) {
-        Cookie cookie = new Cookie("refresh_token", refreshToken);
-        cookie.setHttpOnly(true); // HTTP Only 옵션 설정
-        cookie.setSecure(true); // Secure 옵션 설정 (HTTPS 환경에서만 전송)
-        cookie.setPath("/"); // 쿠키가 유효한 경로 설정
-        cookie.setMaxAge(7 * 24 * 60 * 60); // 쿠키의 유효 기간 설정 (예: 7일)
+    private DeviceInfo deviceInfo(HttpServletRequest request) {
+        return new DeviceInfo(request.getHeader(HttpHeaders.USER_AGENT), request.getRemoteAddr());
+    }
 
-        return cookie;
+    private ResponseCookie createCookie(String refreshToken) {
+        return ResponseCookie.from("refresh_token", refreshToken)
+                .httpOnly(true) // HTTP Only 옵션 설정
+                .secure(true) // Secure 옵션 설정 (HTTPS 환경에서만 전송)
+                .path("/") // 쿠키가 유효한 경로 설정
+                .maxAge(Duration.ofDays(7)) // 쿠키의 유효 기간 설정 (예: 7일)
+                .build();
     }
 }
@@ -0,0 +1,53 @@
+package com.example.jwt_auth.auth.api;
+
+import com.example.jwt_auth.auth.dto.SessionResponse;
+import com.example.jwt_auth.auth.service.SessionService;
+import com.example.jwt_auth.common.jwt.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 로그인 세션(기기) 관리 API
+ * - JwtAuthenticationFilter가 request attribute에 저장한 토큰 주체 정보를 사용
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/sessions")
+public class SessionApi {
+
+    private final SessionService sessionService;
+
+    @GetMapping
+    public ResponseEntity<List<SessionResponse>> getSessions(@RequestAttribute("principal") JwtPrincipal principal) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(sessionService.getSessions(principal.subject(), principal.sessionId()));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> revokeSession(
+            @RequestAttribute("principal") JwtPrincipal principal,
+            @PathVariable String sessionId
+    ) {
+        // 해당 세션의 리프레시 토큰 삭제 및 그 세션에서 발급된 액세스 토큰 폐기 (다른 기기는 유지)
+        sessionService.revokeSession(principal.subject(), sessionId);
+
+        return ResponseEntity
+                .status(HttpStatus.NO_CONTENT)
+                .build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> revokeAllSessions(@RequestAttribute("principal") JwtPrincipal principal) {
+        // 모든 세션 삭제 및 발급된 모든 액세스 토큰 무효화
+        sessionService.revokeAllSessions(principal.subject());
+
+        return ResponseEntity
+                .status(HttpStatus.NO_CONTENT)
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.dto.OAuthUserInfo;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Google ID 토큰(OIDC id_token)을 로컬에서 검증하여 사용자 정보를 만듭니다.
+ * - 서명 검증용 공개 키(JWKS)는 키 ID(kid)별로 메모리에 보관하고, 백그라운드에서 주기적으로 갱신합니다.
+ * - 처음 보는 kid면 JWKS를 즉시 다시 조회하되(키 교체 대응), 최소 간격 안에는 다시 조회하지 않습니다.
+ * - 서명, 만료 시간, 발급자(iss), 대상(aud = client ID), 이메일 인증 여부를 검증합니다.
+ */
+@Slf4j
+@Component
+public class GoogleIdTokenVerifier {
+
+    /** 서버 간 시계 차이 허용 범위 (초) */
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ProviderWebClients webClients;
+    private final OAuthProperties.Google properties;
+
+    /** kid -> 공개 키 (갱신 시 전체 교체) */
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile Instant lastFetchedAt = Instant.EPOCH;
+
+    /** 진행 중인 JWKS 조회 (동시에 여러 요청이 처음 보는 kid를 만나도 한 번만 조회) */
+    private final AtomicReference<Mono<Map<String, PublicKey>>> inflightFetch = new AtomicReference<>();
+
+    public GoogleIdTokenVerifier(ProviderWebClients webClients, OAuthProperties oAuthProperties) {
+        this.webClients = webClients;
+        this.properties = oAuthProperties.google();
+    }
+
+    /**
+     * ID 토큰을 검증하고 클레임으로 사용자 정보 생성
+     */
+    public Mono<OAuthUserInfo> verify(String idToken) {
+        if (idToken == null || idToken.isBlank()) {
+            return Mono.error(new IllegalArgumentException("Google 토큰 응답에 ID 토큰이 없습니다. (openid 스코프 필요)"));
+        }
+
+        String keyId;
+        try {
+            keyId = keyIdOf(idToken);
+        } catch (IllegalArgumentException | IOException e) {
+            return Mono.error(new RuntimeException("Invalid Google ID token", e));
+        }
+
+        PublicKey cachedKey = keys.get(keyId);
+        Mono<PublicKey> key = cachedKey != null
+                ? Mono.just(cachedKey)
+                : refreshForUnknownKey().flatMap(refreshed -> Mono.justOrEmpty(refreshed.get(keyId)));
+
+        return key
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Google ID 토큰의 서명 키를 찾을 수 없습니다: " + keyId)))
+                .map(publicKey -> toUserInfo(parse(idToken, publicKey)));
+    }
+
+    /**
+     * JWKS 백그라운드 갱신 (OIDC 모드에서만, 시작 시 한 번 미리 조회)
+     */
+    @Scheduled(fixedDelayString = "${oauth.google.jwks-refresh-interval:PT1H}")
+    public void refreshKeys() {
+        if (!properties.oidc()) {
+            return;
+        }
+        fetchKeys().subscribe(
+                refreshed -> log.debug("Google JWKS 갱신 완료 ({}개 키)", refreshed.size()),
+                error -> log.warn("Google JWKS 갱신 실패, 기존 키를 계속 사용합니다.", error)
+        );
+    }
+
+    private Mono<Map<String, PublicKey>> refreshForUnknownKey() {
+        // 알 수 없는 kid로 JWKS 조회를 반복 유발하지 못하도록 최소 간격 안에는 기존 키 사용
+        if (Instant.now().isBefore(lastFetchedAt.plus(properties.jwksMinRefreshInterval()))) {
+            return Mono.just(keys);
+        }
+        return fetchKeys();
+    }
+
+    private Mono<Map<String, PublicKey>> fetchKeys() {
+        Mono<Map<String, PublicKey>> fetch = webClients
+                .exchangeIdempotent(OAuthProvider.GOOGLE, "jwks", webClient -> webClient.get()
+                        .uri(properties.jwksUri())
+                        .retrieve()
+                        .bodyToMono(String.class))
+                .map(GoogleIdTokenVerifier::parseKeys)
+                .doOnNext(refreshed -> {
+                    keys = refreshed;
+                    lastFetchedAt = Instant.now();
+                })
+                .cache();
+
+        Mono<Map<String, PublicKey>> inflight = inflightFetch.compareAndExchange(null, fetch);
+        if (inflight != null) {
+            return inflight;
+        }
+        return fetch.doFinally(signal -> inflightFetch.compareAndSet(fetch, null));
+    }
+
+    private Claims parse(String idToken, PublicKey publicKey) {
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .verifyWith(publicKey)
+                    .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                    .build()
+                    .parseSignedClaims(idToken)
+                    .getPayload();
+        } catch (JwtException e) {
+            throw new RuntimeException("Invalid Google ID token", e);
+        }
+
+        if (!properties.issuers().contains(claims.getIssuer())) {
+            throw new IllegalArgumentException("Google ID 토큰의 발급자가 올바르지 않습니다: " + claims.getIssuer());
+        }
+        if (claims.getAudience() == null || !claims.getAudience().contains(properties.clientId())) {
+            throw new IllegalArgumentException("Google ID 토큰의 대상(aud)이 올바르지 않습니다.");
+        }
+        // 이메일 기준으로 기존 계정과 연동하므로 인증된 이메일만 허용
+        if (!Boolean.TRUE.equals(claims.get("email_verified", Boolean.class))) {
+            throw new IllegalArgumentException("이메일이 인증되지 않은 Google 계정입니다.");
+        }
+        return claims;
+    }
+
+    private static OAuthUserInfo toUserInfo(Claims claims) {
+        // sub는 사용자 정보 조회 API(v2)의 id와 같은 값이므로 기존 연동 계정과 그대로 매칭됨
+        return new OAuthUserInfo(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                claims.get("picture", String.class)
+        );
+    }
+
+    private static String keyIdOf(String idToken) throws IOException {
+        int headerEnd = idToken.indexOf('.');
+        if (headerEnd <= 0) {
+            throw new IllegalArgumentException("JWT 형식이 아닙니다.");
+        }
+        JsonNode header = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(idToken.substring(0, headerEnd)));
+        JsonNode keyId = header.get("kid");
+        if (keyId == null || !keyId.isTextual()) {
+            throw new IllegalArgumentException("ID 토큰 헤더에 kid가 없습니다.");
+        }
+        return keyId.asText();
+    }
+
+    private static Map<String, PublicKey> parseKeys(String jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : Jwks.setParser().build().parse(jwks).getKeys()) {
+            if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                parsed.put(jwk.getId(), publicKey);
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.dto.OAuthTokenResponse;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo.GoogleUserResponse;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthProperties;
+import com.example.jwt_auth.common.exception.ServiceOverloadedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Google OAuth
+ * - OIDC 모드에서는 토큰 응답의 ID 토큰을 로컬에서 검증하여 사용자 정보 조회 API 호출을 생략합니다.
+ */
+@Component
+public class GoogleOAuthAdapter implements OAuthProviderAdapter {
+
+    private final ProviderWebClients webClients;
+    private final OAuthProperties.Google google;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+
+    public GoogleOAuthAdapter(
+            ProviderWebClients webClients,
+            OAuthProperties oAuthProperties,
+            GoogleIdTokenVerifier googleIdTokenVerifier
+    ) {
+        this.webClients = webClients;
+        this.google = oAuthProperties.google();
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+    }
+
+    @Override
+    public OAuthProvider provider() {
+        return OAuthProvider.GOOGLE;
+    }
+
+    @Override
+    public Mono<OAuthTokenResponse> exchangeToken(String authorizationCode) {
+        // Authorization Code 디코딩 처리
+        String decodedCode = URLDecoder.decode(authorizationCode, StandardCharsets.UTF_8);
+
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("client_id", google.clientId());
+        formData.add("client_secret", google.clientSecret());
+        formData.add("redirect_uri", google.redirectUri());
+        formData.add("code", decodedCode);
+
+        return webClients.exchange(provider(), "token",
+                        webClient -> OAuthProviderAdapter.requestToken(webClient, google.tokenUri(), formData))
+                .map(OAuthTokenResponse::requireAccessToken);
+    }
+
+    @Override
+    public Mono<OAuthUserInfo> fetchUserInfo(OAuthTokenResponse token) {
+        if (google.oidc()) {
+            return googleIdTokenVerifier.verify(token.idToken());
+        }
+
+        return webClients.exchangeIdempotent(provider(), "userinfo",
+                        webClient -> OAuthProviderAdapter.requestUserInfo(
+                                webClient, google.userInfoUri(), token.accessToken(), GoogleUserResponse.class))
+                .map(GoogleUserResponse::toOAuthUserInfo)
+                .onErrorMap(error -> !(error instanceof ServiceOverloadedException),
+                        error -> new RuntimeException("Invalid Google OAuth token", error));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.dto.OAuthTokenResponse;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo.KakaoUserResponse;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthProperties;
+import com.example.jwt_auth.common.exception.ServiceOverloadedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
+
+/**
+ * Kakao OAuth
+ */
+@Component
+public class KakaoOAuthAdapter implements OAuthProviderAdapter {
+
+    private final ProviderWebClients webClients;
+    private final OAuthProperties.Kakao kakao;
+
+    public KakaoOAuthAdapter(ProviderWebClients webClients, OAuthProperties oAuthProperties) {
+        this.webClients = webClients;
+        this.kakao = oAuthProperties.kakao();
+    }
+
+    @Override
+    public OAuthProvider provider() {
+        return OAuthProvider.KAKAO;
+    }
+
+    @Override
+    public Mono<OAuthTokenResponse> exchangeToken(String authorizationCode) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("client_id", kakao.clientId());
+        formData.add("redirect_uri", kakao.redirectUri());
+        formData.add("code", authorizationCode);
+
+        if (kakao.clientSecret() != null && !kakao.clientSecret().isBlank()) {
+            formData.add("client_secret", kakao.clientSecret());
+        }
+
+        return webClients.exchange(provider(), "token",
+                        webClient -> OAuthProviderAdapter.requestToken(webClient, kakao.tokenUri(), formData))
+                .map(OAuthTokenResponse::requireAccessToken);
+    }
+
+    @Override
+    public Mono<OAuthUserInfo> fetchUserInfo(OAuthTokenResponse token) {
+        return webClients.exchangeIdempotent(provider(), "userinfo",
+                        webClient -> OAuthProviderAdapter.requestUserInfo(
+                                webClient, kakao.userInfoUri(), token.accessToken(), KakaoUserResponse.class))
+                .map(KakaoUserResponse::toOAuthUserInfo)
+                .onErrorMap(error -> !(error instanceof ServiceOverloadedException),
+                        error -> new RuntimeException("Invalid Kakao OAuth token", error));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.dto.OAuthTokenResponse;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo.NaverUserResponse;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthProperties;
+import com.example.jwt_auth.common.exception.ServiceOverloadedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
+
+/**
+ * Naver OAuth
+ */
+@Component
+public class NaverOAuthAdapter implements OAuthProviderAdapter {
+
+    private final ProviderWebClients webClients;
+    private final OAuthProperties.Naver naver;
+
+    public NaverOAuthAdapter(ProviderWebClients webClients, OAuthProperties oAuthProperties) {
+        this.webClients = webClients;
+        this.naver = oAuthProperties.naver();
+    }
+
+    @Override
+    public OAuthProvider provider() {
+        return OAuthProvider.NAVER;
+    }
+
+    @Override
+    public Mono<OAuthTokenResponse> exchangeToken(String authorizationCode) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("client_id", naver.clientId());
+        formData.add("client_secret", naver.clientSecret());
+        formData.add("code", authorizationCode);
+
+        return webClients.exchange(provider(), "token",
+                        webClient -> OAuthProviderAdapter.requestToken(webClient, naver.tokenUri(), formData))
+                .map(OAuthTokenResponse::requireAccessToken);
+    }
+
+    @Override
+    public Mono<OAuthUserInfo> fetchUserInfo(OAuthTokenResponse token) {
+        return webClients.exchangeIdempotent(provider(), "userinfo",
+                        webClient -> OAuthProviderAdapter.requestUserInfo(
+                                webClient, naver.userInfoUri(), token.accessToken(), NaverUserResponse.class))
+                .map(NaverUserResponse::toOAuthUserInfo)
+                .onErrorMap(error -> !(error instanceof ServiceOverloadedException),
+                        error -> new RuntimeException("Invalid Naver OAuth token", error));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.dto.OAuthTokenResponse;
+import com.example.jwt_auth.auth.dto.OAuthUserInfo;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * OAuth Provider별 토큰 발급/사용자 정보 조회 구현
+ * - 구현체를 스프링 빈으로 등록하면 OAuthProviderClient가 provider()를 기준으로 찾아 사용합니다.
+ */
+public interface OAuthProviderAdapter {
+
+    OAuthProvider provider();
+
+    /**
+     * Authorization Code로 토큰 발급 요청 (Authorization Code는 한 번만 사용할 수 있으므로 재시도하지 않음)
+     */
+    Mono<OAuthTokenResponse> exchangeToken(String authorizationCode);
+
+    /**
+     * 발급받은 토큰으로 사용자 정보 조회
+     */
+    Mono<OAuthUserInfo> fetchUserInfo(OAuthTokenResponse token);
+
+    /**
+     * 폼 인코딩된 토큰 발급 요청을 보내고 응답을 타입으로 바로 디코딩
+     */
+    static Mono<OAuthTokenResponse> requestToken(WebClient webClient, String uri, MultiValueMap<String, String> formData) {
+        return webClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData))
+                .retrieve()
+                .bodyToMono(OAuthTokenResponse.class);
+    }
+
+    /**
+     * Bearer 토큰으로 사용자 정보 API 호출
+     */
+    static <T> Mono<T> requestUserInfo(WebClient webClient, String uri, String accessToken, Class<T> responseType) {
+        return webClient.get()
+                .uri(uri)
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(responseType);
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.common.config.ImageUploadProperties;
+import com.example.jwt_auth.common.config.ProfileImageMirrorProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * OAuth Provider의 프로필 이미지를 내려받아 이미지 업로드 대상(app.upload.image.targets)에 저장
+ * - 파일 이름은 이미지 내용의 SHA-256 해시이므로, 같은 이미지는 한 번만 저장되고 내용이 바뀌면 URL도 바뀝니다.
+ *   (같은 파일을 여러 계정이 공유할 수 있으므로, 더 이상 참조되지 않는 파일의 삭제는 ProfileImageMirror가 요청)
+ * - 이전 응답의 ETag를 If-None-Match로 보내 이미지가 바뀌지 않았으면(304) 본문을 내려받지 않습니다.
+ * - 응답 본문은 최대 크기(app.profile-image-mirror.max-size)까지만 버퍼링하며, 이미지 형식만 저장합니다.
+ *   (Content-Type과 파일 시그니처(magic bytes)가 같은 형식인 경우에만 저장)
+ * - 임의 주소로 요청하지 않도록(SSRF) 허용된 스킴과 Provider 이미지 CDN 호스트만 내려받으며,
+ *   리다이렉트는 자동으로 따라가지 않고 대상 URL을 매번 다시 확인한 뒤 최대 횟수까지만 따라갑니다.
+ * - 블로킹으로 동작하므로 요청 스레드가 아닌 ProfileImageMirror의 전용 스레드에서 호출합니다.
+ */
+@Component
+public class ProfileImageDownloader {
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "jpeg", "jpg",
+            "png", "png",
+            "gif", "gif",
+            "webp", "webp"
+    );
+
+    /** 미러링으로 저장한 파일 이름 (내용 해시 + 확장자) */
+    private static final Pattern MIRRORED_FILE_NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+
+    /**
+     * 최근에 저장(또는 재사용)된 파일은 삭제하지 않는 기간
+     * - 다른 스레드가 같은 파일을 저장한 뒤 아직 URL을 커밋하지 않았을 수 있으므로, 참조가 없어 보여도 바로 지우지 않습니다.
+     */
+    private static final Duration DELETE_GRACE_PERIOD = Duration.ofMinutes(1);
+
+    private final WebClient webClient;
+    private final ProfileImageMirrorProperties properties;
+    private final ImageUploadProperties.Target target;
+
+    public ProfileImageDownloader(
+            WebClient.Builder webClientBuilder,
+            ProfileImageMirrorProperties properties,
+            ImageUploadProperties imageUploadProperties
+    ) {
+        this.properties = properties;
+        this.target = imageUploadProperties.targets().get(properties.target());
+
+        HttpClient httpClient = HttpClient.create()
+                .responseTimeout(properties.timeout())
+                .followRedirect(false);
+        this.webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize(Math.toIntExact(properties.maxSize().toBytes())))
+                .build();
+    }
+
+    /**
+     * 저장 대상이 설정되어 있는지 여부 (없으면 미러링하지 않음)
+     */
+    public boolean isAvailable() {
+        return target != null;
+    }
+
+    /**
+     * 이미지를 내려받아 저장
+     *
+     * @param sourceUrl Provider 프로필 이미지 URL
+     * @param etag      같은 URL에서 이전에 받은 응답의 ETag (없으면 null)
+     * @return 저장된 이미지의 URL과 ETag, 이미지가 바뀌지 않았으면(304) empty
+     */
+    public Optional<MirroredImage> download(String sourceUrl, String etag) {
+        if (target == null) {
+            throw new IllegalStateException("프로필 이미지 저장 대상이 설정되지 않았습니다: " + properties.target());
+        }
+
+        URI uri = checkAllowed(URI.create(sourceUrl));
+        ResponseEntity<byte[]> response = fetch(uri, etag);
+        int redirects = 0;
+        while (isRedirect(response)) {
+            URI location = response.getHeaders().getLocation();
+            if (location == null || ++redirects > properties.maxRedirects()) {
+                throw new IllegalStateException("프로필 이미지 리다이렉트를 따라갈 수 없습니다: " + sourceUrl);
+            }
+            // 리다이렉트 대상도 허용된 URL인지 다시 확인
+            uri = checkAllowed(uri.resolve(location));
+            response = fetch(uri, etag);
+        }
+
+        if (response == null || response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return Optional.empty();
+        }
+
+        byte[] image = response.getBody();
+        if (image == null || image.length == 0) {
+            throw new IllegalStateException("프로필 이미지 응답이 비어 있습니다: " + sourceUrl);
+        }
+
+        String extension = extensionOf(response.getHeaders().getContentType());
+        if (!extension.equals(detectExtension(image))) {
+            throw new IllegalArgumentException("이미지 내용이 Content-Type과 일치하지 않습니다: " + sourceUrl);
+        }
+
+        String fileName = sha256Hex(image) + "." + extension;
+        store(fileName, image);
+
+        return Optional.of(new MirroredImage(target.baseUrl() + "/" + fileName, response.getHeaders().getETag()));
+    }
+
+    private ResponseEntity<byte[]> fetch(URI uri, String etag) {
+        return webClient.get()
+                .uri(uri)
+                .accept(MediaType.IMAGE_JPEG, MediaType.IMAGE_PNG, MediaType.IMAGE_GIF, MediaType.valueOf("image/webp"))
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
+                .retrieve()
+                .toEntity(byte[].class)
+                .block(properties.timeout());
+    }
+
+    private static boolean isRedirect(ResponseEntity<byte[]> response) {
+        return response != null
+                && response.getStatusCode().is3xxRedirection()
+                && !response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    /**
+     * 허용된 스킴과 호스트의 URL인지 확인 (처음 URL과 리다이렉트 대상 모두)
+     */
+    private URI checkAllowed(URI uri) {
+        String scheme = uri.getScheme();
+        String host = uri.getHost();
+        if (scheme == null || host == null || uri.getUserInfo() != null
+                || properties.allowedSchemes().stream().noneMatch(scheme::equalsIgnoreCase)
+                || !isAllowedHost(host.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("허용되지 않은 이미지 URL입니다: " + uri);
+        }
+        return uri;
+    }
+
+    private boolean isAllowedHost(String host) {
+        for (String allowed : properties.allowedHosts()) {
+            String pattern = allowed.toLowerCase(Locale.ROOT);
+            if (pattern.startsWith(".") ? host.endsWith(pattern) : host.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void store(String fileName, byte[] image) {
+        try {
+            Path directory = Paths.get(target.directory());
+            Path file = directory.resolve(fileName);
+            if (Files.exists(file)) {
+                // 같은 내용의 이미지가 이미 저장되어 있음 (삭제 유예 기간이 다시 시작되도록 수정 시간 갱신)
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+                return;
+            }
+
+            Files.createDirectories(directory);
+            // 임시 파일에 쓴 뒤 이동하여, 쓰는 도중의 파일이 제공되지 않도록 함
+            Path tempFile = Files.createTempFile(directory, "mirror-", ".tmp");
+            try {
+                Files.write(tempFile, image);
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 다른 스레드가 같은 이미지를 먼저 저장함
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("프로필 이미지를 저장하지 못했습니다: " + fileName, e);
+        }
+    }
+
+    /**
+     * 미러링으로 저장한 이미지 파일 삭제 (더 이상 참조되지 않는 경우에만 호출)
+     * - 미러링으로 저장한 파일 이름이 아니거나(사용자가 직접 업로드한 이미지 등), 최근에 저장된 파일은 삭제하지 않습니다.
+     *
+     * @param url 저장된 이미지의 서비스 URL
+     * @return 삭제 여부
+     */
+    public boolean delete(String url) {
+        if (target == null || url == null || !url.startsWith(target.baseUrl() + "/")) {
+            return false;
+        }
+        String fileName = url.substring(target.baseUrl().length() + 1);
+        if (!MIRRORED_FILE_NAME.matcher(fileName).matches()) {
+            return false;
+        }
+
+        try {
+            Path file = Paths.get(target.directory()).resolve(fileName);
+            if (!Files.exists(file)
+                    || Files.getLastModifiedTime(file).toInstant().plus(DELETE_GRACE_PERIOD).isAfter(Instant.now())) {
+                return false;
+            }
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("프로필 이미지를 삭제하지 못했습니다: " + fileName, e);
+        }
+    }
+
+    private static String extensionOf(MediaType contentType) {
+        String extension = contentType != null && "image".equals(contentType.getType())
+                ? EXTENSIONS.get(contentType.getSubtype())
+                : null;
+        if (extension == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + contentType);
+        }
+        return extension;
+    }
+
+    /** 파일 시그니처(magic bytes)로 이미지 형식의 확장자 판별, 알 수 없으면 null */
+    private static String detectExtension(byte[] content) {
+        if (startsWith(content, 0, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(content, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "png";
+        }
+        if (startsWith(content, 0, 'G', 'I', 'F', '8')) {
+            return "gif";
+        }
+        if (startsWith(content, 0, 'R', 'I', 'F', 'F') && startsWith(content, 8, 'W', 'E', 'B', 'P')) {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] content, int offset, int... signature) {
+        if (content.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((content[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * @param url  저장된 이미지의 서비스 URL (base-url 기준)
+     * @param etag Provider 응답의 ETag (없으면 null)
+     */
+    public record MirroredImage(String url, String etag) {}
+}
@@ -0,0 +1,211 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthProperties;
+import com.example.jwt_auth.common.exception.ServiceOverloadedException;
+import com.example.jwt_auth.common.support.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * OAuth Provider별 WebClient와 장애 격리 설정
+ * - Provider마다 별도의 Reactor Netty 커넥션 풀을 사용하여, 한 Provider의 지연이 다른 Provider의 커넥션을 잠식하지 않습니다.
+ * - 연결/응답 제한 시간을 커넥션 수준에서 적용하고, 멱등 요청(GET)만 지터가 적용된 지수 백오프로 재시도합니다.
+ * - Provider별 서킷 브레이커가 열리면 외부 호출 없이 즉시 ServiceOverloadedException(503)으로 실패합니다.
+ * - 호출 지연 시간은 oauth.provider.requests 타이머(히스토그램)로 Provider/작업/결과별로 기록합니다.
+ */
+@Component
+public class ProviderWebClients {
+
+    private static final double RETRY_JITTER = 0.5;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<OAuthProvider, Channel> channels = new EnumMap<>(OAuthProvider.class);
+
+    public ProviderWebClients(
+            WebClient.Builder webClientBuilder,
+            OAuthProperties oAuthProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.meterRegistry = meterRegistry;
+
+        if (oAuthProperties.google() != null) {
+            register(OAuthProvider.GOOGLE, oAuthProperties.google().http(), webClientBuilder);
+        }
+        if (oAuthProperties.kakao() != null) {
+            register(OAuthProvider.KAKAO, oAuthProperties.kakao().http(), webClientBuilder);
+        }
+        if (oAuthProperties.naver() != null) {
+            register(OAuthProvider.NAVER, oAuthProperties.naver().http(), webClientBuilder);
+        }
+    }
+
+    /**
+     * 재시도하지 않는 요청 실행 (토큰 발급 등 Authorization Code를 소비하는 요청)
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     */
+    public <T> Mono<T> exchange(OAuthProvider provider, String operation, Function<WebClient, Mono<T>> request) {
+        return attempt(channel(provider), provider, operation, request);
+    }
+
+    /**
+     * 멱등 요청 실행 (일시적인 장애는 지터가 적용된 지수 백오프로 재시도)
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     */
+    public <T> Mono<T> exchangeIdempotent(OAuthProvider provider, String operation, Function<WebClient, Mono<T>> request) {
+        Channel channel = channel(provider);
+        Mono<T> attempt = attempt(channel, provider, operation, request);
+        if (channel.http().maxRetries() <= 0) {
+            return attempt;
+        }
+        return attempt.retryWhen(Retry.backoff(channel.http().maxRetries(), channel.http().retryBackoff())
+                .jitter(RETRY_JITTER)
+                .filter(ProviderWebClients::isProviderFailure)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.connectionProvider().dispose());
+    }
+
+    private <T> Mono<T> attempt(
+            Channel channel,
+            OAuthProvider provider,
+            String operation,
+            Function<WebClient, Mono<T>> request
+    ) {
+        return Mono.defer(() -> {
+            Optional<CircuitBreaker.Permit> acquired = channel.circuitBreaker().tryAcquirePermission();
+            if (acquired.isEmpty()) {
+                channel.rejected().increment();
+                return Mono.error(new ServiceOverloadedException(
+                        provider + " 로그인이 일시적으로 불가능합니다. 잠시 후 다시 시도해 주세요."));
+            }
+            CircuitBreaker.Permit permit = acquired.get();
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request.apply(channel.webClient())
+                    .doOnSuccess(result -> permit.onSuccess())
+                    .doOnError(error -> {
+                        // 4xx 등 요청 자체의 오류는 Provider가 정상 응답한 것으로 간주
+                        if (isProviderFailure(error)) {
+                            permit.onFailure();
+                        } else {
+                            permit.onSuccess();
+                        }
+                    })
+                    .doOnCancel(permit::release)
+                    .doFinally(signal -> sample.stop(Timer.builder("oauth.provider.requests")
+                            .tag("provider", channel.name())
+                            .tag("operation", operation)
+                            .tag("outcome", outcome(signal))
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)));
+        });
+    }
+
+    /**
+     * Provider 장애로 볼 수 있는 오류 (연결 실패, 제한 시간 초과, 5xx, 429)
+     */
+    private static boolean isProviderFailure(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == 429;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+    }
+
+    private Channel channel(OAuthProvider provider) {
+        Channel channel = channels.get(provider);
+        if (channel == null) {
+            throw new IllegalArgumentException("지원하지 않는 Provider 입니다: " + provider);
+        }
+        return channel;
+    }
+
+    private void register(OAuthProvider provider, OAuthProperties.Http http, WebClient.Builder webClientBuilder) {
+        String name = provider.name().toLowerCase(Locale.ROOT);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-" + name)
+                .maxConnections(http.maxConnections())
+                .pendingAcquireMaxCount(http.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.pendingAcquireTimeout())
+                .maxIdleTime(http.maxIdleTime())
+                .maxLifeTime(http.maxLifeTime())
+                .evictInBackground(http.maxIdleTime())
+                .metrics(true) // reactor.netty.connection.provider.* (풀 이름별)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(http.connectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(http.responseTimeout());
+
+        WebClient webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // 토큰/사용자 정보 응답은 수 KB 수준이므로 비정상적으로 큰 응답은 버퍼링하지 않고 실패 처리
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize(Math.toIntExact(http.maxResponseSize().toBytes())))
+                .build();
+
+        OAuthProperties.CircuitBreaker settings = http.circuitBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                settings.failureRateThreshold(),
+                settings.slidingWindowSize(),
+                settings.minimumCalls(),
+                settings.openDuration(),
+                settings.halfOpenCalls()
+        );
+
+        Gauge.builder("oauth.provider.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .tag("provider", name)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("oauth.provider.circuit.rejected")
+                .tag("provider", name)
+                .register(meterRegistry);
+
+        channels.put(provider, new Channel(name, http, webClient, connectionProvider, circuitBreaker, rejected));
+    }
+
+    private record Channel(
+            String name,
+            OAuthProperties.Http http,
+            WebClient webClient,
+            ConnectionProvider connectionProvider,
+            CircuitBreaker circuitBreaker,
+            Counter rejected
+    ) {}
+}
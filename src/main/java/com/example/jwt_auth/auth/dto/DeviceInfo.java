@@ -0,0 +1,20 @@
+package com.example.jwt_auth.auth.dto;
+
+/**
+ * 로그인한 기기 정보 (세션 목록 표시용)
+ *
+ * @param userAgent 요청의 User-Agent 헤더
+ * @param ipAddress 요청한 클라이언트 IP 주소
+ */
+public record DeviceInfo(
+        String userAgent,
+        String ipAddress
+) {
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+
+    public DeviceInfo {
+        if (userAgent != null && userAgent.length() > MAX_USER_AGENT_LENGTH) {
+            userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+        }
+    }
+}
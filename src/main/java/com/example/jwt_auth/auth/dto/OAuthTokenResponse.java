@@ -0,0 +1,42 @@
+package com.example.jwt_auth.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * OAuth Provider 토큰 엔드포인트 응답 (Google, Kakao, Naver 공통 필드)
+ * - 이후 단계(ID 토큰 검증, 토큰 갱신 등)에서 다시 호출하지 않도록 access_token 외 필드도 보관합니다.
+ * - Naver는 실패 시에도 200 응답에 error 필드를 담아 보내므로 requireAccessToken()으로 확인합니다.
+ *
+ * @param accessToken      Provider 액세스 토큰
+ * @param tokenType        토큰 유형 (예: Bearer)
+ * @param refreshToken     Provider 리프레시 토큰 (없을 수 있음)
+ * @param expiresIn        액세스 토큰 유효 시간 (초)
+ * @param idToken          OIDC ID 토큰 (openid 스코프를 요청한 경우)
+ * @param scope            허용된 스코프
+ * @param error            오류 코드
+ * @param errorDescription 오류 설명
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OAuthTokenResponse(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("token_type") String tokenType,
+        @JsonProperty("refresh_token") String refreshToken,
+        @JsonProperty("expires_in") Long expiresIn,
+        @JsonProperty("id_token") String idToken,
+        @JsonProperty("scope") String scope,
+        @JsonProperty("error") String error,
+        @JsonProperty("error_description") String errorDescription
+) {
+    /**
+     * 액세스 토큰이 없으면(오류 응답 포함) 예외 발생
+     */
+    public OAuthTokenResponse requireAccessToken() {
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new RuntimeException(error == null
+                    ? "Access Token을 발급받지 못했습니다."
+                    : "Access Token을 발급받지 못했습니다: " + error + " (" + errorDescription + ")");
+        }
+        return this;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.jwt_auth.auth.dto;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record SessionResponse(
+        String sessionId,
+        String userAgent,
+        String ipAddress,
+        Instant createdAt,
+        Instant lastUsedAt,
+        Instant expiryDate,
+        boolean current // 요청한 액세스 토큰이 발급된 세션 여부
+) {}
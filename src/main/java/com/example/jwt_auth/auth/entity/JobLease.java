@@ -0,0 +1,34 @@
+package com.example.jwt_auth.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 배치 작업 실행 임대(lease)
+ * - 여러 노드 중 임대를 획득한 한 노드만 작업을 실행합니다.
+ * - 임대 획득/연장은 조건부 UPDATE(만료되었거나 자신이 보유한 경우에만)로 처리합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class JobLease {
+
+    @Id
+    @Column(length = 64)
+    private String name; // 작업 이름
+
+    @Column(nullable = false)
+    private String owner; // 임대를 보유한 노드 ID
+
+    @Column(nullable = false)
+    private Instant lockedUntil; // 임대 만료 시간
+}
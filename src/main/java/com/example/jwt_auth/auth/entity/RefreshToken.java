@@ -1,31 +0,0 @@
-package com.example.jwt_auth.auth.entity;
-
-import jakarta.persistence.*;
-import lombok.*;
-
-import java.time.Instant;
-
-@Getter
-@Builder
-@AllArgsConstructor
-@NoArgsConstructor
-@Entity
-public class RefreshToken {
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Id
-    private Long id;
-
-    @ManyToOne
-    @JoinColumn(name = "user_id")
-    private User user;
-
-    @Column
-    private String token;
-
-    @Column(nullable = false)
-    private Instant expiryDate;
-
-    public boolean isExpired() {
-        return Instant.now().isAfter(this.expiryDate);
-    }
-}
@@ -13,17 +13,32 @@ import java.time.Instant;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_history_session_id", columnList = "sessionId"),
+        @Index(name = "idx_refresh_token_history_expiry_date", columnList = "expiryDate")
+})
 public class RefreshTokenHistory {
+    // IDENTITY 전략은 INSERT를 즉시 실행해야 하므로 JDBC 배치가 비활성화됨
+    // 테이블 기반 pooled 생성기로 ID를 50개씩 미리 할당받아 INSERT를 플러시 시점에 배치로 전송
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_history_id_generator")
+    @TableGenerator(
+            name = "refresh_token_history_id_generator",
+            table = "id_generator",
+            pkColumnValue = "refresh_token_history",
+            allocationSize = 50
+    )
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @Column(nullable = false, unique = true)
-    private String token;  // 사용된 리프레시 토큰
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenDigest; // 사용된 리프레시 토큰 verifier의 SHA-256 해시 (원본 토큰은 저장하지 않음)
+
+    @Column(nullable = false, length = 36)
+    private String sessionId; // 사용된 리프레시 토큰이 속한 세션 ID
 
     @Column(nullable = false)
     private Instant usedAt; // 기존 리프레시 토큰이 삭제(사용)된 시간
@@ -33,8 +48,4 @@ public class RefreshTokenHistory {
 
     @Column(nullable = false)
     private int reuseCount = 0; // 재사용 횟수 (기본값: 0)
-
-    public void incrementReuseCount() {
-        this.reuseCount++;
-    }
 }
@@ -0,0 +1,38 @@
+package com.example.jwt_auth.auth.entity;
+
+import com.example.jwt_auth.common.support.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰 (jti 기준)
+ * - 토큰 만료 시간(expiresAt)이 지나면 더 이상 의미가 없으므로 주기적으로 삭제됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_access_token_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_revoked_access_token_expires_at", columnList = "expiresAt")
+})
+public class RevokedAccessToken extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti; // 폐기된 액세스 토큰의 고유 ID
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private Instant revokedAt; // 폐기된 시간 (각 노드의 증분 폴링 기준)
+
+    @Column(nullable = false)
+    private Instant expiresAt; // 원래 토큰의 만료 시간
+}
@@ -0,0 +1,39 @@
+package com.example.jwt_auth.auth.entity;
+
+import com.example.jwt_auth.common.support.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 액세스 토큰이 함께 폐기된 로그인 세션 (sid 기준)
+ * - 세션에서 발급된 액세스 토큰은 jti를 모두 알 수 없으므로, 토큰의 sid 클레임으로 한 번에 거부합니다.
+ * - 폐기 시점에 발급되어 있던 액세스 토큰이 모두 만료되는 시간(expiresAt)이 지나면 주기적으로 삭제됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_session_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_revoked_session_expires_at", columnList = "expiresAt")
+})
+public class RevokedSession extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String sessionId; // 폐기된 세션 ID (액세스 토큰의 sid 클레임)
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private Instant revokedAt; // 폐기된 시간 (각 노드의 증분 폴링 기준)
+
+    @Column(nullable = false)
+    private Instant expiresAt; // 세션의 액세스 토큰이 모두 만료되는 시간
+}
@@ -0,0 +1,35 @@
+package com.example.jwt_auth.auth.entity;
+
+import com.example.jwt_auth.common.support.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 사용자 토큰 세대(epoch) 변경 기록
+ * - 각 노드는 이 테이블을 폴링하여 메모리의 세대 맵을 동기화합니다.
+ * - 액세스 토큰 유효 기간이 지난 기록은 더 이상 필요 없으므로 주기적으로 삭제됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_token_epoch_change_changed_at", columnList = "changedAt")
+})
+public class TokenEpochChange extends BaseEntity {
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private long epoch; // 변경된 토큰 세대 (이보다 낮은 세대의 액세스 토큰은 무효)
+
+    @Column(nullable = false)
+    private Instant changedAt;
+}
@@ -30,4 +30,14 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Role role;
+
+    @Column(nullable = false)
+    private long tokenEpoch; // 토큰 세대 (증가시키면 이전에 발급된 모든 액세스 토큰 무효)
+
+    /**
+     * 프로필 이미지 URL 변경 (OAuth 프로필 이미지를 서비스 저장소로 복제한 경우 등)
+     */
+    public void changeProfileImageUrl(String profileImageUrl) {
+        this.profileImageUrl = profileImageUrl;
+    }
 }
@@ -6,6 +6,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,6 +18,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = {
+        // 같은 제공자 계정은 한 번만 연동 (동시 로그인 시 중복 연동 방지 및 제공자 ID 조회 인덱스)
+        @UniqueConstraint(name = "uk_user_oauth_provider_provider_id", columnNames = {"provider", "providerId"})
+})
 public class UserOAuth extends BaseEntity {
 
     @Column(nullable = false)
@@ -35,5 +41,20 @@ public class UserOAuth extends BaseEntity {
     private String nickname;
 
     @Column
-    private String profileImageUrl;
+    private String profileImageUrl; // 미러링된 경우 서비스 이미지 URL
+
+    @Column
+    private String profileImageSourceUrl; // 미러링한 Provider 원본 이미지 URL
+
+    @Column
+    private String profileImageEtag; // 원본 이미지 응답의 ETag (변경 여부 확인용)
+
+    /**
+     * Provider 프로필 이미지를 서비스 저장소에 복제한 결과 반영
+     */
+    public void mirrorProfileImage(String profileImageUrl, String sourceUrl, String etag) {
+        this.profileImageUrl = profileImageUrl;
+        this.profileImageSourceUrl = sourceUrl;
+        this.profileImageEtag = etag;
+    }
 }
\ No newline at end of file
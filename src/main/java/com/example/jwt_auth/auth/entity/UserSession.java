@@ -0,0 +1,77 @@
+package com.example.jwt_auth.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 기기별 로그인 세션
+ * - 로그인할 때마다 새 세션이 생성되며, 현재 리프레시 토큰의 selector와 verifier 해시를 보관합니다.
+ * - 리프레시 토큰 재발급(회전)은 이 세션 행만 기본 키로 조건부 갱신합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_user_session_user_id_last_used_at", columnList = "user_id, lastUsedAt"),
+        @Index(name = "idx_user_session_expiry_date", columnList = "expiryDate")
+})
+public class UserSession implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id; // 세션 ID (UUID, 애플리케이션에서 생성)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, unique = true, length = 16)
+    private String selector; // 현재 리프레시 토큰 조회용 식별자
+
+    @Column(nullable = false, columnDefinition = "BINARY(32)")
+    private byte[] verifierHash; // 현재 리프레시 토큰 비밀 값(verifier)의 SHA-256 해시
+
+    @Column(length = 255)
+    private String userAgent; // 로그인한 기기의 User-Agent
+
+    @Column(length = 45)
+    private String ipAddress; // 로그인한 기기의 IP 주소 (IPv6 포함)
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant lastUsedAt; // 마지막 리프레시 토큰 재발급 시간
+
+    @Column(nullable = false)
+    private Instant expiryDate; // 현재 리프레시 토큰 만료 시간
+
+    @Transient
+    private boolean persisted; // 저장 또는 조회된 엔티티 여부
+
+    public boolean isExpired() {
+        return Instant.now().isAfter(this.expiryDate);
+    }
+
+    /**
+     * ID를 직접 할당하므로, 저장 시 조회(merge) 없이 바로 INSERT 하도록 새 엔티티 여부를 직접 판단
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jwt_auth.auth.entity.enums;
+
+/**
+ * 세분화된 권한
+ * - 각 권한은 ordinal 위치의 비트 하나로 표현되며, 액세스 토큰에는 비트마스크(long)로 저장됩니다.
+ * - 비트 0~31은 권한, 32~63은 역할(Role)에 사용하므로 권한은 최대 32개까지 정의할 수 있습니다.
+ * - 토큰에 저장되는 값이므로 기존 상수의 순서를 바꾸지 말고 항상 마지막에 추가해야 합니다.
+ */
+public enum Permission {
+    POST_READ,
+    POST_WRITE,
+    POST_DELETE,
+    USER_MANAGE;
+
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * 여러 권한을 하나의 비트마스크로 변환
+     */
+    public static long maskOf(Permission... permissions) {
+        long mask = 0L;
+        for (Permission permission : permissions) {
+            mask |= permission.mask();
+        }
+        return mask;
+    }
+}
@@ -1,6 +1,48 @@
 package com.example.jwt_auth.auth.entity.enums;
 
+/**
+ * 사용자 역할
+ * - 상위 역할은 하위 역할(parent)의 역할 비트와 권한을 모두 포함합니다. (ADMIN ⊃ USER)
+ * - 토큰에 저장되는 값이므로 기존 상수의 순서를 바꾸지 말고 항상 마지막에 추가해야 합니다.
+ */
 public enum Role {
-    USER,
-    ADMIN
+    USER(null, Permission.POST_READ, Permission.POST_WRITE),
+    ADMIN(USER, Permission.POST_DELETE, Permission.USER_MANAGE);
+
+    /** 역할 비트의 시작 위치 (0~31은 Permission 비트) */
+    private static final int ROLE_BIT_OFFSET = 32;
+
+    private final long roleMask;
+    private final long authorities;
+
+    Role(Role parent, Permission... permissions) {
+        this.roleMask = 1L << (ROLE_BIT_OFFSET + ordinal());
+
+        long mask = roleMask | Permission.maskOf(permissions);
+        if (parent != null) {
+            mask |= parent.authorities;
+        }
+        this.authorities = mask;
+    }
+
+    /**
+     * 이 역할 자체를 나타내는 비트 (인가 규칙에서 "최소 역할" 조건으로 사용)
+     */
+    public long roleMask() {
+        return roleMask;
+    }
+
+    /**
+     * 이 역할이 가진 전체 권한 비트마스크 (하위 역할의 역할 비트/권한 포함)
+     */
+    public long authorities() {
+        return authorities;
+    }
+
+    /**
+     * 이 역할이 주어진 역할 이상인지 확인 (예: ADMIN.includes(USER) == true)
+     */
+    public boolean includes(Role role) {
+        return (authorities & role.roleMask) != 0;
+    }
 }
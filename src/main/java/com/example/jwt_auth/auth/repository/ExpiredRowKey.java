@@ -0,0 +1,20 @@
+package com.example.jwt_auth.auth.repository;
+
+import java.time.Instant;
+
+/**
+ * 만료 행 정리 시 키셋(keyset) 페이지 위치 (만료 시간, ID 순 정렬)
+ *
+ * @param <ID> 엔티티 ID 타입
+ */
+public record ExpiredRowKey<ID>(ID id, Instant expiryDate) {
+
+    /**
+     * 첫 페이지 조회용 시작 위치
+     *
+     * @param minId 가장 작은 ID보다 작거나 같은 값 (예: 0L, "")
+     */
+    public static <ID> ExpiredRowKey<ID> start(ID minId) {
+        return new ExpiredRowKey<>(minId, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jwt_auth.auth.repository;
+
+import com.example.jwt_auth.auth.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 임대가 만료되었거나 이미 보유한 경우에만 임대 획득 (갱신된 행 수가 1이면 획득 성공)
+     */
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.lockedUntil = :lockedUntil " +
+            "where l.name = :name and (l.lockedUntil <= :now or l.owner = :owner)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") Instant now,
+                @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * 임대 행 생성 (이미 존재하면 키 중복 예외 발생)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into job_lease (name, owner, locked_until) values (:name, :owner, :lockedUntil)",
+            nativeQuery = true)
+    int create(@Param("name") String name,
+               @Param("owner") String owner,
+               @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * 보유한 임대를 즉시 만료 처리
+     */
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.lockedUntil = :now where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
@@ -1,11 +1,38 @@
 package com.example.jwt_auth.auth.repository;
 
 import com.example.jwt_auth.auth.entity.RefreshTokenHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenHistoryRepository extends JpaRepository<RefreshTokenHistory, Long> {
 
-    Optional<RefreshTokenHistory> findByToken(String Token);
+    Optional<RefreshTokenHistory> findByTokenDigest(byte[] tokenDigest);
+
+    @Modifying
+    @Query("update RefreshTokenHistory h set h.reuseCount = h.reuseCount + 1 where h.id = :id")
+    int incrementReuseCount(@Param("id") Long id);
+
+    /**
+     * 만료된 행의 키를 (만료 시간, ID) 순으로 주어진 위치 다음부터 조회 (키셋 페이지네이션)
+     */
+    @Query("select new com.example.jwt_auth.auth.repository.ExpiredRowKey(h.id, h.expiryDate) from RefreshTokenHistory h " +
+            "where h.expiryDate < :now " +
+            "and (h.expiryDate > :afterExpiryDate " +
+            "or (h.expiryDate = :afterExpiryDate and h.id > :afterId)) " +
+            "order by h.expiryDate, h.id")
+    List<ExpiredRowKey<Long>> findExpiredKeys(@Param("now") Instant now,
+                                              @Param("afterExpiryDate") Instant afterExpiryDate,
+                                              @Param("afterId") Long afterId,
+                                              Limit limit);
+
+    @Modifying
+    @Query("delete from RefreshTokenHistory h where h.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,33 @@
+package com.example.jwt_auth.auth.repository;
+
+import com.example.jwt_auth.auth.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    boolean existsByJti(String jti);
+
+    /**
+     * 주어진 시각 이후에 폐기된 토큰의 jti 조회 (증분 폴링용)
+     */
+    @Query("select r.jti from RevokedAccessToken r where r.revokedAt >= :since")
+    List<String> findJtisRevokedSince(@Param("since") Instant since);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰의 jti 조회 (블룸 필터 재구성용)
+     */
+    @Query("select r.jti from RevokedAccessToken r where r.expiresAt > :now")
+    List<String> findJtisNotExpired(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,33 @@
+package com.example.jwt_auth.auth.repository;
+
+import com.example.jwt_auth.auth.entity.RevokedSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedSessionRepository extends JpaRepository<RevokedSession, Long> {
+
+    boolean existsBySessionId(String sessionId);
+
+    /**
+     * 주어진 시각 이후에 폐기된 세션 ID 조회 (증분 폴링용)
+     */
+    @Query("select r.sessionId from RevokedSession r where r.revokedAt >= :since")
+    List<String> findSessionIdsRevokedSince(@Param("since") Instant since);
+
+    /**
+     * 아직 만료되지 않은 폐기 세션 ID 조회 (블룸 필터 재구성용)
+     */
+    @Query("select r.sessionId from RevokedSession r where r.expiresAt > :now")
+    List<String> findSessionIdsNotExpired(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedSession r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,21 @@
+package com.example.jwt_auth.auth.repository;
+
+import com.example.jwt_auth.auth.entity.TokenEpochChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenEpochChangeRepository extends JpaRepository<TokenEpochChange, Long> {
+
+    List<TokenEpochChange> findByChangedAtGreaterThanEqual(Instant since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenEpochChange c where c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") Instant before);
+}
@@ -3,6 +3,8 @@ package com.example.jwt_auth.auth.repository;
 import com.example.jwt_auth.auth.entity.UserOAuth;
 import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,8 +12,13 @@ import java.util.Optional;
 @Repository
 public interface UserOAuthRepository extends JpaRepository<UserOAuth, Long> {
 
+    Optional<UserOAuth> findByProviderAndProviderId(OAuthProvider provider, String providerId);
+
     /**
-     * OAuth Provider와 Provider ID로 UserOAuth 조회
+     * OAuth 제공자 계정에 연동된 사용자 ID만 조회 ((provider, providerId) 고유 인덱스만 사용하며 user 테이블은 조회하지 않음)
      */
-    Optional<UserOAuth> findByProviderAndProviderId(OAuthProvider provider, String providerId);
+    @Query("select o.userId from UserOAuth o where o.provider = :provider and o.providerId = :providerId")
+    Optional<Long> findUserIdByOAuthIdentity(@Param("provider") OAuthProvider provider, @Param("providerId") String providerId);
+
+    boolean existsByProfileImageUrl(String profileImageUrl);
 }
\ No newline at end of file
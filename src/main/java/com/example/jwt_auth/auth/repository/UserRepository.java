@@ -2,6 +2,9 @@ package com.example.jwt_auth.auth.repository;
 
 import com.example.jwt_auth.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +13,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
+
+    boolean existsByProfileImageUrl(String profileImageUrl);
+
+    /**
+     * 사용자 토큰 세대를 원자적으로 1 증가
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.tokenEpoch = u.tokenEpoch + 1 where u.id = :userId")
+    int incrementTokenEpoch(@Param("userId") Long userId);
+
+    /**
+     * 비밀번호 해시만 변경 (엔티티 조회 없이 갱신)
+     */
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    @Query("select u.tokenEpoch from User u where u.id = :userId")
+    long findTokenEpochById(@Param("userId") Long userId);
 }
@@ -0,0 +1,72 @@
+package com.example.jwt_auth.auth.repository;
+
+import com.example.jwt_auth.auth.entity.UserSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserSessionRepository extends JpaRepository<UserSession, String> {
+
+    Optional<UserSession> findBySelector(String selector);
+
+    /**
+     * 사용자의 유효한 세션 목록을 최근 사용 순으로 조회 (user_id, lastUsedAt 인덱스 사용)
+     */
+    @Query("select s from UserSession s where s.user.id = :userId and s.expiryDate > :now order by s.lastUsedAt desc")
+    List<UserSession> findActiveByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * 세션의 리프레시 토큰을 조건부로 교체 (회전)
+     * - 기본 키로 한 행만 갱신하며, 제시된 selector가 현재 값과 같고 만료되지 않은 경우에만 갱신됩니다.
+     * - 동시에 같은 토큰으로 회전하려는 트랜잭션은 행 잠금에서 대기한 뒤 0건을 반환하므로,
+     *   반환된 갱신 건수로 회전에 성공한 요청을 하나만 가려낼 수 있습니다.
+     */
+    @Modifying
+    @Query("update UserSession s set s.selector = :newSelector, s.verifierHash = :newVerifierHash, " +
+            "s.lastUsedAt = :now, s.expiryDate = :expiryDate " +
+            "where s.id = :id and s.selector = :selector and s.expiryDate > :now")
+    int rotate(@Param("id") String id,
+               @Param("selector") String selector,
+               @Param("newSelector") String newSelector,
+               @Param("newVerifierHash") byte[] newVerifierHash,
+               @Param("now") Instant now,
+               @Param("expiryDate") Instant expiryDate);
+
+    /**
+     * 사용자의 세션 한 건 삭제 (다른 사용자의 세션은 삭제되지 않음)
+     */
+    @Modifying
+    @Query("delete from UserSession s where s.id = :id and s.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") String id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from UserSession s where s.id = :id")
+    int deleteSession(@Param("id") String id);
+
+    @Modifying
+    @Query("delete from UserSession s where s.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료된 행의 키를 (만료 시간, ID) 순으로 주어진 위치 다음부터 조회 (키셋 페이지네이션)
+     */
+    @Query("select new com.example.jwt_auth.auth.repository.ExpiredRowKey(s.id, s.expiryDate) from UserSession s " +
+            "where s.expiryDate < :now " +
+            "and (s.expiryDate > :afterExpiryDate " +
+            "or (s.expiryDate = :afterExpiryDate and s.id > :afterId)) " +
+            "order by s.expiryDate, s.id")
+    List<ExpiredRowKey<String>> findExpiredKeys(@Param("now") Instant now,
+                                                @Param("afterExpiryDate") Instant afterExpiryDate,
+                                                @Param("afterId") String afterId,
+                                                Limit limit);
+
+    @Modifying
+    @Query("delete from UserSession s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<String> ids);
+}
@@ -1,18 +1,22 @@
 package com.example.jwt_auth.auth.service;
 
 import com.example.jwt_auth.auth.dto.*;
-import com.example.jwt_auth.auth.entity.RefreshToken;
 import com.example.jwt_auth.auth.entity.RefreshTokenHistory;
 import com.example.jwt_auth.auth.entity.User;
-import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
-import com.example.jwt_auth.auth.repository.RefreshTokenRepository;
+import com.example.jwt_auth.auth.entity.UserSession;
 import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.crypto.PasswordHasher;
+import com.example.jwt_auth.common.jwt.AccessTokenDenylist;
+import com.example.jwt_auth.common.jwt.JwtPrincipal;
 import com.example.jwt_auth.common.jwt.JwtUtil;
+import com.example.jwt_auth.common.jwt.RefreshTokenSecret;
+import com.example.jwt_auth.common.jwt.RotatedRefreshTokenCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCrypt;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.util.NoSuchElementException;
@@ -23,13 +27,16 @@ import java.util.Optional;
 public class AuthService {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final RefreshTokenHistoryRepository refreshTokenHistoryRepository;
+    private final UserSessionRepository userSessionRepository;
+    private final RefreshTokenHistoryWriter refreshTokenHistoryWriter;
     private final TokenManagementService tokenManagementService;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final PasswordHasher passwordHasher;
+    private final RotatedRefreshTokenCache rotatedRefreshTokenCache;
+    private final UserAuthCache userAuthCache;
 
-    @Transactional(readOnly = true)
-    public Optional<User> findByUsername(String username) {
-        return userRepository.findByUsername(username);
+    public Optional<UserAuthRecord> findByUsername(String username) {
+        return userAuthCache.findByUsername(username);
     }
 
     @Transactional
@@ -37,7 +44,7 @@ public class AuthService {
         // 새로운 사용자 객체 생성
         User newUser = User.builder()
                 .username(request.username())
-                .password(BCrypt.hashpw(request.password(), BCrypt.gensalt()))
+                .password(passwordHasher.hash(request.password())) // 전용 스레드 풀에서 해싱
                 .email(request.email())
                 .nickname(request.nickname())
                 .role(request.role())
@@ -54,107 +61,122 @@ public class AuthService {
     }
 
     @Transactional
-    public TokenResponse signIn(SignInRequest request) {
-        // 사용자 이름으로 DB에서 사용자 조회
-        User user = userRepository.findByUsername(request.username())
-                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 사용자입니다."));
+    public TokenResponse signIn(SignInRequest request, DeviceInfo deviceInfo) {
+        // 사용자 이름으로 사용자 조회 (캐시에 없으면 DB 조회)
+        UserAuthRecord user = findUser(request.username());
 
-        // 입력된 비밀번호와 저장된 비밀번호 비교
-        if (!new BCryptPasswordEncoder().matches(request.password(), user.getPassword())) {
+        // 입력된 비밀번호와 저장된 비밀번호 비교 (전용 스레드 풀에서 수행)
+        PasswordHasher.Verification verification = passwordHasher.verify(request.password(), user.passwordHash());
+        if (!verification.matched()) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        // 기존 리프레시 토큰이 존재하는 경우, 사용 이력을 저장하고 토큰을 삭제
-        refreshTokenRepository.findByUser(user).ifPresent(existingToken -> {
-            RefreshTokenHistory history = RefreshTokenHistory.builder()
-                    .user(user)
-                    .token(existingToken.getToken())
-                    .usedAt(Instant.now())
-                    .expiryDate(existingToken.getExpiryDate())
-                    .build();
-
-            refreshTokenHistoryRepository.save(history);
-            refreshTokenRepository.delete(existingToken);
-        });
-
-        // 새로운 액세스 토큰 및 리프레시 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(user);
-        String refreshToken = jwtUtil.createRefreshToken(user);
-
-        // 해싱된 리프레시 토큰 생성(DB 저장용)
-        RefreshToken hashedRefreshToken = RefreshToken.builder()
-                .user(user)
-                .token(BCrypt.hashpw(refreshToken, BCrypt.gensalt()))
-                .expiryDate(Instant.now().plusSeconds(7 * 24 * 60 * 60)) // 7일 후 만료
-                .build();
-
-        // 해싱된 리프레시 토큰 저장(DB)
-        refreshTokenRepository.save(hashedRefreshToken);
+        // 저장된 해시가 현재 해싱 정책보다 약하면 새 해시로 교체하고 캐시된 사용자 정보 무효화
+        if (verification.needsUpgrade()) {
+            userRepository.updatePassword(user.id(), verification.upgradedPassword());
+            userAuthCache.invalidate(user.username());
+        }
 
-        return TokenResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        // 새로운 세션을 만들어 액세스 토큰 및 리프레시 토큰 생성 (다른 기기의 세션은 유지)
+        return tokenManagementService.issueTokens(user, deviceInfo);
     }
 
     @Transactional
     public TokenResponse reissueRefreshToken(ReissueRefreshTokenRequest request) {
-        // 사용자 이름으로 DB에서 사용자 조회
-        User existingUser = userRepository.findByUsername(request.username())
-                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 사용자입니다."));
+        // 유예 시간 안의 중복 재발급 요청(여러 탭 동시 요청 등)이면 이미 발급된 토큰을 그대로 반환
+        Optional<TokenResponse> reissuedTokens = rotatedRefreshTokenCache.find(request.token(), request.username());
+        if (reissuedTokens.isPresent()) {
+            return reissuedTokens.get();
+        }
 
-        // 주어진 토큰이 만료된 리프레시 토큰 기록에 존재하는지 확인
-        refreshTokenHistoryRepository.findByToken(request.token())
+        // 사용자 이름으로 사용자 조회 (캐시에 없으면 DB 조회)
+        UserAuthRecord existingUser = findUser(request.username());
+
+        // 주어진 토큰이 만료된 리프레시 토큰 기록에 존재하는지 확인 (verifier 해시로 조회)
+        RefreshTokenSecret presentedToken = RefreshTokenSecret.parse(request.token());
+        refreshTokenHistoryWriter.findByTokenDigest(presentedToken.verifierHash())
                 .ifPresent(refreshTokenHistory -> {
-                    // 리프레시 토큰 재사용 처리 (재사용 횟수 증가 및 해당 유저의 모든 리프레시 토큰 삭제)
-                    tokenManagementService.handleRefreshTokenReuse(refreshTokenHistory);
+                    // 리프레시 토큰 재사용 처리 (재사용 횟수 증가 및 해당 세션 삭제)
+                    tokenManagementService.handleRefreshTokenReuse(refreshTokenHistory, existingUser);
 
                     throw new IllegalArgumentException("사용 또는 만료 처리된 리프레시 토큰이 재사용 되었습니다.");
                 });
 
-        // 해당 사용자의 모든 리프레시 토큰을 가져온 후, 해시된 값 비교
-        RefreshToken existingRefreshToken = refreshTokenRepository.findByUser(existingUser)
-                .stream()
-                .filter(refreshToken -> BCrypt.checkpw(request.token(), refreshToken.getToken()))
-                .findFirst()
+        // selector로 세션 한 건을 인덱스 조회한 후, verifier 해시를 상수 시간 비교
+        UserSession session = userSessionRepository.findBySelector(presentedToken.selector())
+                .filter(userSession -> userSession.getUser().getId().equals(existingUser.id()))
+                .filter(userSession -> presentedToken.matches(userSession.getVerifierHash()))
                 .orElseThrow(() -> new NoSuchElementException("리프레시 토큰이 존재하지 않습니다."));
 
         // 리프레시 토큰 만료 여부 체크
-        if (existingRefreshToken.isExpired()) {
+        if (session.isExpired()) {
             throw new IllegalArgumentException("리프레시 토큰이 만료되었습니다.");
         }
 
-        // 기존 리프레시 토큰 사용 기록 객체 생성
-        RefreshTokenHistory refreshTokenHistory = RefreshTokenHistory.builder()
-                .user(existingUser)
-                .token(request.token())
-                .usedAt(Instant.now())
-                .expiryDate(existingRefreshToken.getExpiryDate())
-                .build();
+        // 세션 행만 기본 키로 조건부 갱신하여 토큰 교체 (동시 요청 중 갱신에 성공한 요청 하나만 회전 진행)
+        Optional<TokenResponse> rotatedTokens =
+                tokenManagementService.rotateTokens(existingUser, session, presentedToken.selector());
+        if (rotatedTokens.isEmpty()) {
+            // 먼저 커밋한 요청이 보관한 후속 토큰이 있으면 반환
+            return rotatedRefreshTokenCache.find(request.token(), request.username())
+                    .orElseThrow(() -> new IllegalArgumentException("이미 사용된 리프레시 토큰입니다."));
+        }
+        TokenResponse tokenResponse = rotatedTokens.get();
 
-        // 기존 리프레시 토큰 사용 기록 저장
-        refreshTokenHistoryRepository.save(refreshTokenHistory);
+        // 교체된 리프레시 토큰 사용 기록 저장 (쓰기 지연 사용 시 커밋 후 백그라운드에서 저장)
+        refreshTokenHistoryWriter.write(RefreshTokenHistory.builder()
+                .user(userRepository.getReferenceById(existingUser.id()))
+                .tokenDigest(session.getVerifierHash())
+                .sessionId(session.getId())
+                .usedAt(Instant.now())
+                .expiryDate(session.getExpiryDate())
+                .build());
+
+        // 커밋 전에 후속 토큰을 보관해야 행 잠금에서 대기하던 동시 요청이 커밋 직후 바로 조회할 수 있음 (롤백 시 제거)
+        rotatedRefreshTokenCache.put(request.token(), request.username(), tokenResponse);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    rotatedRefreshTokenCache.evict(request.token());
+                }
+            }
+        });
 
-        // 기존 리프레시 토큰 삭제(재사용 방지)
-        refreshTokenRepository.delete(existingRefreshToken);
+        return tokenResponse;
+    }
 
-        // 새로운 액세스 토큰 및 리프레시 토큰 생성
-        String newAccessToken = jwtUtil.createAccessToken(existingUser);
-        String newRefreshToken = jwtUtil.createRefreshToken(existingUser);
+    @Transactional
+    public void signOut(String accessToken) {
+        // 액세스 토큰 검증 (유효하지 않으면 예외 발생)
+        JwtPrincipal principal = jwtUtil.verifyAccessToken(accessToken);
+
+        // 액세스 토큰을 만료 시간 전까지 사용할 수 없도록 폐기
+        accessTokenDenylist.revoke(principal);
+
+        userAuthCache.findByUsername(principal.subject()).ifPresent(user -> {
+            if (principal.sessionId() != null) {
+                // 현재 기기의 세션만 삭제하고, 그 세션에서 발급된 다른 액세스 토큰도 폐기
+                userSessionRepository.deleteByIdAndUserId(principal.sessionId(), user.id());
+                accessTokenDenylist.revokeSession(principal.sessionId(), user.username());
+            } else {
+                // 세션 정보가 없는 (이전 버전에서 발급된) 토큰은 사용자의 모든 세션 삭제
+                userSessionRepository.deleteAllByUserId(user.id());
+            }
+        });
+    }
 
-        // 해싱된 리프레시 토큰 생성(DB 저장용)
-        RefreshToken hashedRefreshToken = RefreshToken.builder()
-                .user(existingUser)
-                .token(BCrypt.hashpw(newRefreshToken, BCrypt.gensalt()))
-                .expiryDate(Instant.now().plusSeconds(7 * 24 * 60 * 60)) // 7일
-                .build();
+    @Transactional
+    public void signOutAll(String accessToken) {
+        // 액세스 토큰 검증 (유효하지 않으면 예외 발생)
+        JwtPrincipal principal = jwtUtil.verifyAccessToken(accessToken);
 
-        // 해싱된 리프레시 토큰 저장(DB)
-        refreshTokenRepository.save(hashedRefreshToken);
+        // 모든 기기의 리프레시 토큰 삭제 및 발급된 모든 액세스 토큰 무효화
+        tokenManagementService.revokeAllTokens(findUser(principal.subject()));
+    }
 
-        return TokenResponse.builder()
-                .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken)
-                .build();
+    private UserAuthRecord findUser(String username) {
+        return userAuthCache.findByUsername(username)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 사용자입니다."));
     }
 }
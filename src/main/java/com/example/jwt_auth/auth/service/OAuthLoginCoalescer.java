@@ -0,0 +1,117 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.dto.TokenResponse;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthLoginProperties;
+import com.example.jwt_auth.common.jwt.TokenDigest;
+import com.example.jwt_auth.common.support.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 (Provider, Authorization Code)로 중복 제출된 소셜 로그인 요청 병합
+ * - 처리 중인 로그인이 있으면 새로 Provider를 호출하지 않고 같은 결과(CompletableFuture)를 기다립니다.
+ * - 완료된 결과는 짧은 시간(app.oauth-login.result-ttl) 보관하여, 늦게 도착한 재시도에도 같은 토큰을 돌려줍니다.
+ * - Key: Provider와 Authorization Code의 SHA-256 다이제스트 (원본 코드는 보관하지 않음)
+ * - 실패한 로그인은 보관하지 않으며, 최대 크기를 넘으면 결과를 캐싱하지 않습니다.
+ */
+@Component
+public class OAuthLoginCoalescer {
+
+    private final OAuthLoginProperties properties;
+
+    private final ConcurrentHashMap<TokenDigest, CompletableFuture<TokenResponse>> inflight = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<TokenDigest, TokenResponse> results;
+
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder cached = new LongAdder();
+
+    public OAuthLoginCoalescer(OAuthLoginProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.results = new BoundedTtlCache<>(properties.maxSize());
+
+        FunctionCounter.builder("oauth.login.coalesced", joined, LongAdder::sum)
+                .tag("result", "joined")
+                .register(meterRegistry);
+        FunctionCounter.builder("oauth.login.coalesced", cached, LongAdder::sum)
+                .tag("result", "cached")
+                .register(meterRegistry);
+        Gauge.builder("oauth.login.inflight", inflight, ConcurrentHashMap::size)
+                .register(meterRegistry);
+        Gauge.builder("oauth.login.results.size", results, BoundedTtlCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 Authorization Code의 로그인이 처리 중이거나 최근에 완료되었으면 그 결과를, 아니면 새로 로그인한 결과를 반환
+     *
+     * @param login 실제 로그인 처리 (처리 중인 요청이 없을 때 한 번만 실행)
+     */
+    public CompletableFuture<TokenResponse> login(
+            OAuthProvider provider,
+            String authorizationCode,
+            Supplier<CompletableFuture<TokenResponse>> login
+    ) {
+        TokenDigest key = TokenDigest.of(provider.name() + ":" + authorizationCode);
+
+        TokenResponse recent = find(key);
+        if (recent != null) {
+            cached.increment();
+            return CompletableFuture.completedFuture(recent);
+        }
+
+        CompletableFuture<TokenResponse> shared = new CompletableFuture<>();
+        CompletableFuture<TokenResponse> existing = inflight.putIfAbsent(key, shared);
+        if (existing != null) {
+            joined.increment();
+            // 한 요청이 응답을 포기(취소)해도 함께 기다리는 요청에 영향을 주지 않도록 복사본 반환
+            return existing.copy();
+        }
+
+        CompletableFuture<TokenResponse> started;
+        try {
+            started = login.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+
+        started.whenComplete((tokens, error) -> {
+            // 결과를 먼저 보관한 뒤 처리 중 목록에서 제거하여, 그 사이에 도착한 요청이 다시 로그인하지 않도록 함
+            if (error == null) {
+                put(key, tokens);
+            }
+            inflight.remove(key, shared);
+            if (error == null) {
+                shared.complete(tokens);
+            } else {
+                shared.completeExceptionally(error);
+            }
+        });
+        return shared.copy();
+    }
+
+    private TokenResponse find(TokenDigest key) {
+        if (properties.resultTtl().isZero()) {
+            return null;
+        }
+        return results.get(key, Instant.now());
+    }
+
+    private void put(TokenDigest key, TokenResponse tokens) {
+        if (properties.resultTtl().isZero()) {
+            return;
+        }
+
+        // 최대 크기를 넘으면 보관하지 않음 (늦게 온 재시도는 Provider에서 코드 재사용 오류로 처리됨)
+        Instant now = Instant.now();
+        results.put(key, tokens, now.plus(properties.resultTtl()), now);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.jwt_auth.auth.service;
 
 import com.example.jwt_auth.auth.client.OAuthProviderClient;
+import com.example.jwt_auth.auth.dto.DeviceInfo;
 import com.example.jwt_auth.auth.dto.OAuthUserInfo;
 import com.example.jwt_auth.auth.dto.TokenResponse;
 import com.example.jwt_auth.auth.entity.User;
@@ -9,85 +10,149 @@ import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
 import com.example.jwt_auth.auth.entity.enums.Role;
 import com.example.jwt_auth.auth.repository.UserOAuthRepository;
 import com.example.jwt_auth.auth.repository.UserRepository;
-import com.example.jwt_auth.common.jwt.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.example.jwt_auth.common.support.JdbcExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 public class OAuthService {
 
+    /** OAuth Provider 인증(토큰 발급 및 사용자 정보 조회) 최대 대기 시간 */
+    private static final Duration PROVIDER_TIMEOUT = Duration.ofSeconds(20);
+
     private final UserRepository userRepository;
     private final UserOAuthRepository userOAuthRepository;
     private final OAuthProviderClient oAuthProviderClient;
-    private final JwtUtil jwtUtil;
+    private final TokenManagementService tokenManagementService;
+    private final JdbcExecutor jdbcExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final OAuthLoginCoalescer oAuthLoginCoalescer;
+    private final ProfileImageMirror profileImageMirror;
+    private final UserAuthCache userAuthCache;
+
+    public OAuthService(
+            UserRepository userRepository,
+            UserOAuthRepository userOAuthRepository,
+            OAuthProviderClient oAuthProviderClient,
+            TokenManagementService tokenManagementService,
+            JdbcExecutor jdbcExecutor,
+            PlatformTransactionManager transactionManager,
+            OAuthLoginCoalescer oAuthLoginCoalescer,
+            ProfileImageMirror profileImageMirror,
+            UserAuthCache userAuthCache
+    ) {
+        this.userRepository = userRepository;
+        this.userOAuthRepository = userOAuthRepository;
+        this.oAuthProviderClient = oAuthProviderClient;
+        this.tokenManagementService = tokenManagementService;
+        this.jdbcExecutor = jdbcExecutor;
+        this.oAuthLoginCoalescer = oAuthLoginCoalescer;
+        this.profileImageMirror = profileImageMirror;
+        this.userAuthCache = userAuthCache;
+
+        // 계정 생성/연동은 항상 별도 트랜잭션으로 커밋하여, 충돌 시 다시 조회하면 먼저 커밋된 계정이 보이도록 함
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * OAuth Provider와 Authorization Code를 받아 소셜 로그인을 처리하고 JWT를 발급
+     * - Provider API 호출은 논블로킹으로 연결하여 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+     * - 계정 조회/생성과 토큰 발급(DB 작업)만 JdbcExecutor의 전용 스레드에서 실행합니다.
+     * - 같은 Authorization Code로 중복 제출된 요청은 먼저 들어온 로그인의 결과(같은 세션의 토큰)를 함께 받습니다.
      */
-    @Transactional
-    public TokenResponse oauthLogin(OAuthProvider provider, String authorizationCode) {
-        String accessToken = oAuthProviderClient.getAccessToken(provider, authorizationCode)
-                .blockOptional(Duration.ofSeconds(10))
-                .orElseThrow(() -> new RuntimeException("Access Token을 발급받지 못했습니다."));
-
-        OAuthUserInfo userInfo = oAuthProviderClient.getUserInfo(provider, accessToken)
-                .blockOptional(Duration.ofSeconds(10))
-                .orElseThrow(() -> new RuntimeException("사용자 정보를 조회하지 못했습니다."));
+    public CompletableFuture<TokenResponse> oauthLogin(OAuthProvider provider, String authorizationCode, DeviceInfo deviceInfo) {
+        return oAuthLoginCoalescer.login(provider, authorizationCode,
+                () -> authenticateAndIssueTokens(provider, authorizationCode, deviceInfo));
+    }
 
-        User user = findOrCreateUser(provider, userInfo);
+    private CompletableFuture<TokenResponse> authenticateAndIssueTokens(
+            OAuthProvider provider,
+            String authorizationCode,
+            DeviceInfo deviceInfo
+    ) {
+        return oAuthProviderClient.authenticate(provider, authorizationCode)
+                .timeout(PROVIDER_TIMEOUT, Mono.error(() -> new IllegalStateException("OAuth Provider 응답 시간이 초과되었습니다.")))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("사용자 정보를 조회하지 못했습니다.")))
+                .toFuture()
+                .thenCompose(userInfo -> jdbcExecutor.supplyAsync(() -> {
+                    UserAuthRecord user = findOrCreateUser(provider, userInfo);
 
-        String serviceAccessToken = jwtUtil.createAccessToken(user);
-        String serviceRefreshToken = jwtUtil.createRefreshToken(user);
+                    // Provider 프로필 이미지는 백그라운드에서 서비스 저장소로 복제 (로그인 응답을 기다리게 하지 않음)
+                    profileImageMirror.submit(provider, userInfo.id(), userInfo.profileImageUrl());
 
-        return new TokenResponse(serviceAccessToken, serviceRefreshToken);
+                    // 새 세션을 만들어 서비스 액세스/리프레시 토큰 발급 (리프레시 토큰은 재발급에 사용할 수 있도록 DB 저장)
+                    return tokenManagementService.issueTokens(user, deviceInfo);
+                }));
     }
 
     /**
      * 사용자 정보(userInfo)를 기반으로 DB에서 사용자를 찾거나, 없으면 새로 생성
      * 기존 자체 회원(네이티브 계정)이 있으면 자동으로 OAuth 계정과 연동
+     * - 이미 연동된 계정은 (provider, providerId) 고유 인덱스로 사용자 ID만 조회하고, 사용자 정보는 UserAuthCache에서 가져옵니다.
+     *   (캐시에 있으면 user 테이블을 조회하지 않음)
+     * - 같은 계정으로 동시에 로그인하여 생성/연동이 충돌하면 고유 제약 조건 위반으로 감지하고, 먼저 커밋된 계정을 반환합니다.
      */
-    private User findOrCreateUser(OAuthProvider provider, OAuthUserInfo userInfo) {
+    private UserAuthRecord findOrCreateUser(OAuthProvider provider, OAuthUserInfo userInfo) {
         // OAuth 이메일 null 체크
         Objects.requireNonNull(userInfo.email(), "OAuth 이메일이 존재하지 않아 가입/연동할 수 없습니다.");
 
-        // OAuth 계정 조회
-        return userOAuthRepository.findByProviderAndProviderId(provider, userInfo.id())
-                .map(oauth ->
-                    // OAuth 계정이 이미 존재하면 해당 네이티브 계정(User) 조회 후 반환
-                    userRepository.findById(oauth.getUserId())
-                        .orElseThrow(() -> new RuntimeException("User not found for OAuth account"))
-                )
-                // OAuth 계정이 없으면 새로운 User 혹은 기존 네이티브 계정과 연동
+        // OAuth 계정이 이미 존재하면 연동된 네이티브 계정(User) 반환
+        return findLinkedUser(provider, userInfo.id())
                 .orElseGet(() -> {
-                    // 이메일 기준 기존 네이티브 계정 확인
-                    User user = userRepository.findByEmail(userInfo.email())
-                            .orElseGet(() -> {
-                                // 네이티브 계정도 없으면 새 User 생성
-                                return userRepository.save(User.builder()
-                                        .username(userInfo.email())
-                                        .nickname(userInfo.nickname())
-                                        .profileImageUrl(userInfo.profileImageUrl())
-                                        .role(Role.USER)
-                                        .build());
-                            });
-
-                    // OAuth 계정 연동
-                    userOAuthRepository.save(UserOAuth.builder()
-                            .userId(user.getId())          // 네이티브 계정 ID
-                            .provider(provider)            // OAuth 제공자 (GOOGLE, KAKAO 등)
-                            .providerId(userInfo.id())     // OAuth 제공자 고유 ID
-                            .oauthEmail(userInfo.email())  // OAuth 이메일
+                    try {
+                        // OAuth 계정이 없으면 새로운 User 혹은 기존 네이티브 계정과 연동
+                        return transactionTemplate.execute(status -> createOrLinkUser(provider, userInfo));
+                    } catch (DataIntegrityViolationException e) {
+                        // 다른 요청이 같은 계정을 먼저 생성/연동한 경우 해당 계정 사용
+                        return findLinkedUser(provider, userInfo.id())
+                                .orElseThrow(() -> e);
+                    }
+                });
+    }
+
+    /**
+     * OAuth 제공자 계정에 연동된 사용자 조회 (연동 정보는 인덱스 조회, 사용자 정보는 캐시에 없을 때만 DB 조회)
+     */
+    private Optional<UserAuthRecord> findLinkedUser(OAuthProvider provider, String providerId) {
+        return userOAuthRepository.findUserIdByOAuthIdentity(provider, providerId)
+                .map(userId -> userAuthCache.findById(userId)
+                        .orElseThrow(() -> new RuntimeException("User not found for OAuth account")));
+    }
+
+    private UserAuthRecord createOrLinkUser(OAuthProvider provider, OAuthUserInfo userInfo) {
+        // 이메일 기준 기존 네이티브 계정 확인
+        User user = userRepository.findByEmail(userInfo.email())
+                .orElseGet(() -> {
+                    // 네이티브 계정도 없으면 새 User 생성
+                    return userRepository.save(User.builder()
+                            .username(userInfo.email())
                             .nickname(userInfo.nickname())
                             .profileImageUrl(userInfo.profileImageUrl())
+                            .role(Role.USER)
                             .build());
-
-                    // 최종적으로 User 반환
-                    return user;
                 });
+
+        // OAuth 계정 연동 (즉시 플러시하여 고유 제약 조건 위반을 이 트랜잭션 안에서 감지)
+        userOAuthRepository.saveAndFlush(UserOAuth.builder()
+                .userId(user.getId())          // 네이티브 계정 ID
+                .provider(provider)            // OAuth 제공자 (GOOGLE, KAKAO 등)
+                .providerId(userInfo.id())     // OAuth 제공자 고유 ID
+                .oauthEmail(userInfo.email())  // OAuth 이메일
+                .nickname(userInfo.nickname())
+                .profileImageUrl(userInfo.profileImageUrl())
+                .build());
+
+        // 최종적으로 User 반환
+        return UserAuthRecord.from(user);
     }
-}
\ No newline at end of file
+}
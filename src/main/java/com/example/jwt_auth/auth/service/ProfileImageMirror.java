@@ -0,0 +1,198 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.client.ProfileImageDownloader;
+import com.example.jwt_auth.auth.client.ProfileImageDownloader.MirroredImage;
+import com.example.jwt_auth.auth.entity.UserOAuth;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.auth.repository.UserOAuthRepository;
+import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.common.config.ProfileImageMirrorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth 프로필 이미지를 백그라운드에서 서비스 저장소로 복제(미러링)
+ * - 로그인 응답을 기다리게 하지 않도록 전용 스레드 풀에서 처리하며, 대기열이 가득 차면 이번 로그인에서는 건너뜁니다.
+ * - 원본 URL이 같으면 저장해 둔 ETag로 조건부 요청을 보내, 이미지가 바뀐 경우에만 내려받습니다.
+ * - 저장 후 UserOAuth와 User의 프로필 이미지 URL을 서비스 URL(base-url)로 바꿉니다.
+ *   (User는 아직 Provider 이미지를 쓰고 있거나 이미지가 없는 경우에만 변경하여, 직접 설정한 이미지는 유지)
+ * - 이미지가 바뀌어 이전에 미러링한 파일을 어떤 User/UserOAuth도 참조하지 않으면 파일을 삭제합니다.
+ */
+@Slf4j
+@Component
+public class ProfileImageMirror {
+
+    private final ProfileImageDownloader downloader;
+    private final UserOAuthRepository userOAuthRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileImageMirrorProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter storedCounter;
+    private final Counter unchangedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ProfileImageMirror(
+            ProfileImageDownloader downloader,
+            UserOAuthRepository userOAuthRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            ProfileImageMirrorProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.downloader = downloader;
+        this.userOAuthRepository = userOAuthRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new MirrorThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.storedCounter = Counter.builder("profile.image.mirror")
+                .tag("result", "stored")
+                .register(meterRegistry);
+        this.unchangedCounter = Counter.builder("profile.image.mirror")
+                .tag("result", "unchanged")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("profile.image.mirror")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("profile.image.mirror")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("profile.image.mirror.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+
+        if (properties.enabled() && !downloader.isAvailable()) {
+            log.warn("app.upload.image.targets.{} 설정이 없어 OAuth 프로필 이미지를 미러링하지 않습니다.", properties.target());
+        }
+    }
+
+    /**
+     * 연동된 OAuth 계정의 프로필 이미지 미러링 요청 (계정 생성/연동이 커밋된 뒤 호출)
+     *
+     * @param sourceUrl Provider가 알려준 프로필 이미지 URL
+     */
+    public void submit(OAuthProvider provider, String providerId, String sourceUrl) {
+        if (!properties.enabled() || !downloader.isAvailable() || sourceUrl == null || sourceUrl.isBlank()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> mirror(provider, providerId, sourceUrl));
+        } catch (RejectedExecutionException e) {
+            // 로그인은 계속 진행하고, 다음 로그인 때 다시 시도
+            rejectedCounter.increment();
+        }
+    }
+
+    /**
+     * 원본 이미지가 바뀐 경우에만 내려받아 저장하고 URL 변경
+     */
+    void mirror(OAuthProvider provider, String providerId, String sourceUrl) {
+        try {
+            UserOAuth userOAuth = userOAuthRepository.findByProviderAndProviderId(provider, providerId).orElse(null);
+            if (userOAuth == null) {
+                return;
+            }
+
+            // 원본 URL이 그대로면 이전 ETag로 조건부 요청 (URL이 바뀌었으면 새 이미지로 간주)
+            boolean sameSource = sourceUrl.equals(userOAuth.getProfileImageSourceUrl());
+            Optional<MirroredImage> downloaded = downloader.download(
+                    sourceUrl, sameSource ? userOAuth.getProfileImageEtag() : null);
+
+            // 304 응답이거나, 내용 해시(파일 이름)와 ETag가 모두 같으면 변경 없음
+            if (downloaded.isEmpty() || (sameSource
+                    && downloaded.get().url().equals(userOAuth.getProfileImageUrl())
+                    && Objects.equals(downloaded.get().etag(), userOAuth.getProfileImageEtag()))) {
+                unchangedCounter.increment();
+                return;
+            }
+
+            MirroredImage image = downloaded.get();
+            String previousUrl = transactionTemplate.execute(status -> update(userOAuth.getId(), sourceUrl, image));
+            storedCounter.increment();
+
+            if (previousUrl != null && !previousUrl.equals(image.url())) {
+                deleteIfUnreferenced(previousUrl);
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("OAuth 프로필 이미지 미러링 실패 (provider={}, url={}): {}", provider, sourceUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 바뀌기 전 UserOAuth의 이미지 URL (없으면 null)
+     */
+    private String update(Long userOAuthId, String sourceUrl, MirroredImage image) {
+        UserOAuth userOAuth = userOAuthRepository.findById(userOAuthId).orElse(null);
+        if (userOAuth == null) {
+            return null;
+        }
+
+        String previousUrl = userOAuth.getProfileImageUrl();
+        userOAuth.mirrorProfileImage(image.url(), sourceUrl, image.etag());
+
+        userRepository.findById(userOAuth.getUserId()).ifPresent(user -> {
+            String current = user.getProfileImageUrl();
+            if (current == null || current.equals(previousUrl) || current.equals(sourceUrl)) {
+                user.changeProfileImageUrl(image.url());
+            }
+        });
+        return previousUrl;
+    }
+
+    /**
+     * 같은 이미지(내용 해시)를 쓰는 다른 계정이 없으면 이전에 미러링한 파일 삭제
+     * (Provider 원본 URL이나 직접 업로드한 이미지는 ProfileImageDownloader가 삭제하지 않음)
+     */
+    private void deleteIfUnreferenced(String previousUrl) {
+        try {
+            if (userOAuthRepository.existsByProfileImageUrl(previousUrl) || userRepository.existsByProfileImageUrl(previousUrl)) {
+                return;
+            }
+            if (downloader.delete(previousUrl)) {
+                log.debug("더 이상 사용하지 않는 프로필 이미지 삭제: {}", previousUrl);
+            }
+        } catch (RuntimeException e) {
+            // 새 이미지는 이미 반영되었으므로 미러링 실패로 보지 않음
+            log.warn("이전 프로필 이미지 삭제 실패 (url={}): {}", previousUrl, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class MirrorThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "profile-image-mirror-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
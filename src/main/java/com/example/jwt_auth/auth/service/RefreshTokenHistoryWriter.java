@@ -0,0 +1,230 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.entity.RefreshTokenHistory;
+import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.jwt.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 리프레시 토큰 사용 기록(RefreshTokenHistory) 저장 담당
+ * - 쓰기 지연(jwt.refresh.history.write-behind)을 사용하지 않으면 요청 트랜잭션 안에서 즉시 저장합니다.
+ * - 쓰기 지연을 사용하면 요청 트랜잭션이 커밋된 뒤 기록을 고정 크기 버퍼에 넣고, 백그라운드에서 배치로 저장합니다.
+ *
+ * <p>쓰기 지연 시 보장 범위
+ * <ul>
+ *     <li>요청 트랜잭션이 롤백되면 기록은 버퍼에 들어가지 않습니다.</li>
+ *     <li>버퍼가 가득 차면 요청 스레드에서 즉시(동기) 저장합니다.</li>
+ *     <li>정상 종료 시 버퍼에 남은 기록을 모두 저장합니다. 프로세스가 비정상 종료되면 저장 전의 기록(최대 버퍼 크기)은 유실될 수 있습니다.</li>
+ *     <li>저장 전의 기록은 메모리 인덱스로 조회되므로, 재사용 탐지는 저장 여부와 관계없이 동작합니다.</li>
+ *     <li>저장에 실패한 기록도 토큰 만료 시간까지 메모리 인덱스에 남겨 사용된 토큰으로 취급하며, 재사용 탐지 시 다시 저장합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RefreshTokenHistoryWriter {
+
+    private final RefreshTokenHistoryRepository refreshTokenHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JwtProperties.History properties;
+
+    private final BlockingQueue<RefreshTokenHistory> buffer;
+
+    /** 저장 전(버퍼, 저장 중 또는 저장 실패)인 기록의 토큰 다이제스트 인덱스 (재사용 탐지용) */
+    private final ConcurrentHashMap<TokenDigest, RefreshTokenHistory> pendingByDigest = new ConcurrentHashMap<>();
+
+    /** 백그라운드 저장과 재사용 탐지 시 동기 저장이 겹치지 않도록 보호 */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter synchronousWrites;
+    private final Counter failedWrites;
+
+    public RefreshTokenHistoryWriter(
+            RefreshTokenHistoryRepository refreshTokenHistoryRepository,
+            PlatformTransactionManager transactionManager,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenHistoryRepository = refreshTokenHistoryRepository;
+        this.properties = jwtProperties.refresh().history();
+        this.buffer = new ArrayBlockingQueue<>(properties.bufferSize());
+
+        // 요청 트랜잭션의 롤백에 휩쓸리지 않도록 항상 별도 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("jwt.refresh.history.pending", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        this.synchronousWrites = Counter.builder("jwt.refresh.history.sync.writes")
+                .description("버퍼가 가득 차 요청 스레드에서 즉시 저장한 사용 기록 수")
+                .register(meterRegistry);
+        this.failedWrites = Counter.builder("jwt.refresh.history.failed.writes")
+                .description("저장에 실패하여 메모리 인덱스에만 남은 사용 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리프레시 토큰 사용 기록 저장
+     * - 쓰기 지연을 사용하면 현재 트랜잭션이 커밋된 뒤 버퍼에 추가됩니다.
+     */
+    public void write(RefreshTokenHistory history) {
+        if (!properties.writeBehind()) {
+            refreshTokenHistoryRepository.save(history);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(history);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(history);
+            }
+        });
+    }
+
+    /**
+     * 토큰 다이제스트(verifier의 SHA-256 해시)로 사용 기록 조회
+     * - 아직 저장되지 않은 기록이면 먼저 저장한 뒤 반환합니다. (재사용 횟수 증가 등 후속 처리를 위해 DB 행이 필요)
+     * - 저장에 실패한 기록도 DB를 조회하지 않고 그대로 반환하여, 사용된 토큰의 재사용이 통과되지 않도록 합니다.
+     * - 별도 트랜잭션에서 저장된 행은 호출자 트랜잭션의 스냅샷에 보이지 않을 수 있으므로 저장된 객체를 그대로 반환합니다.
+     */
+    public Optional<RefreshTokenHistory> findByTokenDigest(byte[] tokenDigest) {
+        TokenDigest key = TokenDigest.fromBytes(tokenDigest);
+        RefreshTokenHistory pending = pendingByDigest.get(key);
+        if (pending == null) {
+            return refreshTokenHistoryRepository.findByTokenDigest(tokenDigest);
+        }
+
+        // 백그라운드 저장이 진행 중이면 끝날 때까지 대기
+        drain();
+
+        // 저장 후에도 인덱스에 남아 있으면 저장에 실패한 기록이므로 지금 다시 저장 (실패해도 사용된 토큰으로 처리)
+        flushLock.lock();
+        try {
+            RefreshTokenHistory unsaved = pendingByDigest.get(key);
+            if (unsaved != null) {
+                RefreshTokenHistory saved = copyOf(unsaved);
+                if (saveIndividually(saved)) {
+                    pendingByDigest.remove(key, unsaved);
+                    return Optional.of(saved);
+                }
+                return Optional.of(unsaved);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        return Optional.of(pending);
+    }
+
+    /**
+     * 버퍼에 쌓인 사용 기록을 배치로 저장
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.history.flush-interval:PT0.2S}")
+    public void flush() {
+        if (!buffer.isEmpty()) {
+            drain();
+        }
+
+        // 저장에 실패해 남은 기록은 토큰 만료 후에는 재사용 탐지에 필요 없으므로 정리
+        if (pendingByDigest.size() > buffer.size()) {
+            Instant now = Instant.now();
+            pendingByDigest.values().removeIf(history -> !history.getExpiryDate().isAfter(now));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drain();
+    }
+
+    private void drain() {
+        flushLock.lock();
+        try {
+            List<RefreshTokenHistory> batch = new ArrayList<>(properties.batchSize());
+            while (buffer.drainTo(batch, properties.batchSize()) > 0) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> refreshTokenHistoryRepository.saveAll(batch));
+                    batch.forEach(this::markSaved);
+                } catch (RuntimeException e) {
+                    // 배치 저장에 실패하면 한 건씩 저장하여 문제가 된 기록만 제외 (실패한 기록은 인덱스에 남김)
+                    log.error("리프레시 토큰 사용 기록 배치 저장 실패 ({}건), 개별 저장으로 재시도", batch.size(), e);
+                    batch.forEach(history -> {
+                        if (saveIndividually(copyOf(history))) {
+                            markSaved(history);
+                        }
+                    });
+                }
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void enqueue(RefreshTokenHistory history) {
+        pendingByDigest.put(TokenDigest.fromBytes(history.getTokenDigest()), history);
+
+        if (!buffer.offer(history)) {
+            // 버퍼가 가득 찬 경우 요청 스레드에서 즉시 저장
+            synchronousWrites.increment();
+            if (saveIndividually(history)) {
+                markSaved(history);
+            }
+        }
+    }
+
+    private void markSaved(RefreshTokenHistory history) {
+        pendingByDigest.remove(TokenDigest.fromBytes(history.getTokenDigest()), history);
+    }
+
+    /**
+     * @return 저장 성공 여부 (실패한 기록은 인덱스에 남아 사용된 토큰으로 취급됨)
+     */
+    private boolean saveIndividually(RefreshTokenHistory history) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> refreshTokenHistoryRepository.save(history));
+            return true;
+        } catch (RuntimeException e) {
+            failedWrites.increment();
+            log.error("리프레시 토큰 사용 기록 저장 실패: sessionId={}", history.getSessionId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 저장에 실패한 객체는 롤백된 트랜잭션에서 ID가 할당되었을 수 있으므로, 다시 저장할 때는 새 객체를 사용
+     */
+    private static RefreshTokenHistory copyOf(RefreshTokenHistory history) {
+        return RefreshTokenHistory.builder()
+                .user(history.getUser())
+                .tokenDigest(history.getTokenDigest())
+                .sessionId(history.getSessionId())
+                .usedAt(history.getUsedAt())
+                .expiryDate(history.getExpiryDate())
+                .build();
+    }
+}
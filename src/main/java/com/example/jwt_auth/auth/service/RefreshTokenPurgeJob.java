@@ -0,0 +1,142 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.repository.ExpiredRowKey;
+import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.support.JobLeaseManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 만료된 세션(리프레시 토큰) 및 리프레시 토큰 사용 기록 정리 작업
+ * - 만료 시간 인덱스를 따라 (만료 시간, ID) 키셋 순서로 청크 단위 조회/삭제하며, 청크마다 트랜잭션을 나눠 잠금 시간을 짧게 유지합니다.
+ * - 청크 사이에 잠시 대기하여 요청 트래픽과의 잠금 경합을 줄입니다.
+ * - DB 임대를 획득한 한 노드만 실행하며, 임대 만료 전에 남은 작업은 다음 실행으로 넘깁니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final String LEASE_NAME = "refresh-token-purge";
+
+    private final UserSessionRepository userSessionRepository;
+    private final RefreshTokenHistoryRepository refreshTokenHistoryRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final JwtProperties.Purge properties;
+
+    public RefreshTokenPurgeJob(
+            UserSessionRepository userSessionRepository,
+            RefreshTokenHistoryRepository refreshTokenHistoryRepository,
+            JobLeaseManager jobLeaseManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            JwtProperties jwtProperties
+    ) {
+        this.userSessionRepository = userSessionRepository;
+        this.refreshTokenHistoryRepository = refreshTokenHistoryRepository;
+        this.jobLeaseManager = jobLeaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.properties = jwtProperties.refresh().purge();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${jwt.refresh.purge.interval:PT1H}",
+            initialDelayString = "${jwt.refresh.purge.interval:PT1H}"
+    )
+    public void purgeExpired() {
+        Optional<Instant> lease = jobLeaseManager.tryAcquire(LEASE_NAME, properties.leaseDuration());
+        if (lease.isEmpty()) {
+            log.debug("다른 노드가 리프레시 토큰 정리 작업을 실행 중");
+            return;
+        }
+
+        // 임대 만료 직전까지만 실행 (남은 행은 다음 실행에서 정리)
+        Instant deadline = lease.get().minus(properties.leaseDuration().dividedBy(10));
+        Instant now = Instant.now();
+        try {
+            purge("user_session",
+                    ExpiredRowKey.start(""),
+                    after -> userSessionRepository.findExpiredKeys(
+                            now, after.expiryDate(), after.id(), Limit.of(properties.chunkSize())),
+                    userSessionRepository::deleteAllByIdIn,
+                    deadline);
+            purge("refresh_token_history",
+                    ExpiredRowKey.start(0L),
+                    after -> refreshTokenHistoryRepository.findExpiredKeys(
+                            now, after.expiryDate(), after.id(), Limit.of(properties.chunkSize())),
+                    refreshTokenHistoryRepository::deleteAllByIdIn,
+                    deadline);
+        } finally {
+            jobLeaseManager.release(LEASE_NAME);
+        }
+    }
+
+    private <ID> void purge(
+            String table,
+            ExpiredRowKey<ID> start,
+            Function<ExpiredRowKey<ID>, List<ExpiredRowKey<ID>>> finder,
+            ToIntFunction<List<ID>> deleter,
+            Instant deadline
+    ) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ExpiredRowKey<ID> cursor = start;
+        long deleted = 0;
+        int chunks = 0;
+
+        while (Instant.now().isBefore(deadline)) {
+            ExpiredRowKey<ID> after = cursor;
+            ChunkResult<ID> result = transactionTemplate.execute(status -> {
+                List<ExpiredRowKey<ID>> keys = finder.apply(after);
+                if (keys.isEmpty()) {
+                    return null;
+                }
+                List<ID> ids = keys.stream().map(ExpiredRowKey::id).toList();
+                return new ChunkResult<>(keys.get(keys.size() - 1), deleter.applyAsInt(ids), keys.size());
+            });
+            if (result == null) {
+                break;
+            }
+
+            cursor = result.last();
+            deleted += result.deleted();
+            chunks++;
+
+            // 마지막 청크면 종료, 아니면 잠시 대기 후 다음 청크
+            if (result.size() < properties.chunkSize() || !pause()) {
+                break;
+            }
+        }
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("refresh.token.purge.duration", "table", table));
+        meterRegistry.counter("refresh.token.purge.deleted", "table", table).increment(deleted);
+        log.info("만료된 {} {}건 삭제 ({}개 청크, {}ms)", table, deleted, chunks, elapsedNanos / 1_000_000);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkResult<ID>(ExpiredRowKey<ID> last, int deleted, int size) {}
+}
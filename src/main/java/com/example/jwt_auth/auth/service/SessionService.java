@@ -0,0 +1,70 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.dto.SessionResponse;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.jwt.AccessTokenDenylist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+    private final UserAuthCache userAuthCache;
+    private final UserSessionRepository userSessionRepository;
+    private final TokenManagementService tokenManagementService;
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    /**
+     * 사용자의 유효한 로그인 세션 목록 조회 (최근 사용 순)
+     *
+     * @param currentSessionId 요청한 액세스 토큰의 세션 ID (현재 기기 표시용)
+     */
+    @Transactional(readOnly = true)
+    public List<SessionResponse> getSessions(String username, String currentSessionId) {
+        UserAuthRecord user = findUser(username);
+
+        return userSessionRepository.findActiveByUserId(user.id(), Instant.now()).stream()
+                .map(session -> SessionResponse.builder()
+                        .sessionId(session.getId())
+                        .userAgent(session.getUserAgent())
+                        .ipAddress(session.getIpAddress())
+                        .createdAt(session.getCreatedAt())
+                        .lastUsedAt(session.getLastUsedAt())
+                        .expiryDate(session.getExpiryDate())
+                        .current(session.getId().equals(currentSessionId))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 세션 한 건 로그아웃 (해당 세션의 리프레시 토큰으로 더 이상 재발급 불가)
+     * - 그 세션에서 이미 발급된 액세스 토큰도 sid로 폐기하며, 다른 기기의 토큰은 유지합니다.
+     */
+    @Transactional
+    public void revokeSession(String username, String sessionId) {
+        UserAuthRecord user = findUser(username);
+
+        if (userSessionRepository.deleteByIdAndUserId(sessionId, user.id()) == 0) {
+            throw new NoSuchElementException("세션이 존재하지 않습니다.");
+        }
+        accessTokenDenylist.revokeSession(sessionId, user.username());
+    }
+
+    /**
+     * 모든 세션 로그아웃 (발급된 모든 액세스 토큰도 무효화)
+     */
+    @Transactional
+    public void revokeAllSessions(String username) {
+        tokenManagementService.revokeAllTokens(findUser(username));
+    }
+
+    private UserAuthRecord findUser(String username) {
+        return userAuthCache.findByUsername(username)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 사용자입니다."));
+    }
+}
@@ -1,26 +1,140 @@
 package com.example.jwt_auth.auth.service;
 
+import com.example.jwt_auth.auth.dto.DeviceInfo;
+import com.example.jwt_auth.auth.dto.TokenResponse;
 import com.example.jwt_auth.auth.entity.RefreshTokenHistory;
+import com.example.jwt_auth.auth.entity.TokenEpochChange;
+import com.example.jwt_auth.auth.entity.UserSession;
 import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
-import com.example.jwt_auth.auth.repository.RefreshTokenRepository;
+import com.example.jwt_auth.auth.repository.TokenEpochChangeRepository;
+import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.jwt.AccessTokenDenylist;
+import com.example.jwt_auth.common.jwt.JwtUtil;
+import com.example.jwt_auth.common.jwt.RefreshTokenSecret;
+import com.example.jwt_auth.common.jwt.TokenEpochRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class TokenManagementService {
+    /** 리프레시 토큰 유효 기간 (7일) */
+    private static final Duration REFRESH_TOKEN_LIFETIME = Duration.ofDays(7);
+
+    private final JwtUtil jwtUtil;
     private final RefreshTokenHistoryRepository refreshTokenHistoryRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserSessionRepository userSessionRepository;
+    private final UserRepository userRepository;
+    private final TokenEpochChangeRepository tokenEpochChangeRepository;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    /**
+     * 로그인 시 새로운 세션을 만들어 액세스 토큰 및 리프레시 토큰 발급
+     * - 리프레시 토큰은 selector와 verifier 해시만 세션에 저장
+     */
+    @Transactional
+    public TokenResponse issueTokens(UserAuthRecord user, DeviceInfo deviceInfo) {
+        RefreshTokenSecret refreshToken = jwtUtil.createRefreshToken();
+        Instant now = Instant.now();
+
+        UserSession session = userSessionRepository.save(UserSession.builder()
+                .id(UUID.randomUUID().toString())
+                .user(userRepository.getReferenceById(user.id())) // 외래 키만 필요하므로 사용자 조회 없이 참조
+                .selector(refreshToken.selector())
+                .verifierHash(refreshToken.verifierHash())
+                .userAgent(deviceInfo.userAgent())
+                .ipAddress(deviceInfo.ipAddress())
+                .createdAt(now)
+                .lastUsedAt(now)
+                .expiryDate(now.plus(REFRESH_TOKEN_LIFETIME))
+                .build());
+
+        return TokenResponse.builder()
+                .accessToken(createAccessToken(user, session.getId()))
+                .refreshToken(refreshToken.value())
+                .build();
+    }
+
+    /**
+     * 세션의 리프레시 토큰을 새 토큰으로 교체(회전)하고 액세스 토큰 발급
+     * - 세션 행 하나만 기본 키로 조건부 갱신하며, 동시에 같은 토큰으로 회전한 다른 요청이 먼저 성공했으면 empty 반환
+     *
+     * @param presentedSelector 요청에 포함된 (교체될) 리프레시 토큰의 selector
+     */
+    @Transactional
+    public Optional<TokenResponse> rotateTokens(UserAuthRecord user, UserSession session, String presentedSelector) {
+        RefreshTokenSecret refreshToken = jwtUtil.createRefreshToken();
+        Instant now = Instant.now();
+
+        int rotated = userSessionRepository.rotate(
+                session.getId(),
+                presentedSelector,
+                refreshToken.selector(),
+                refreshToken.verifierHash(),
+                now,
+                now.plus(REFRESH_TOKEN_LIFETIME)
+        );
+        if (rotated == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(TokenResponse.builder()
+                .accessToken(createAccessToken(user, session.getId()))
+                .refreshToken(refreshToken.value())
+                .build());
+    }
 
+    /**
+     * 리프레시 토큰 재사용 처리
+     * - 사용 기록의 사용자 연관 객체는 지연 로딩 프록시이므로, 이미 조회한 사용자 정보를 함께 받습니다.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handleRefreshTokenReuse(RefreshTokenHistory refreshTokenHistory) {
-        // 재사용 횟수 증가 및 리프레시 토큰 기록 저장
-        refreshTokenHistory.incrementReuseCount();
-        refreshTokenHistoryRepository.save(refreshTokenHistory);
+    public void handleRefreshTokenReuse(RefreshTokenHistory refreshTokenHistory, UserAuthRecord user) {
+        // 재사용 횟수 증가
+        refreshTokenHistoryRepository.incrementReuseCount(refreshTokenHistory.getId());
+
+        // 재사용된 토큰의 세션(탈취된 회전 체인)만 삭제 (다른 기기의 세션은 유지)
+        userSessionRepository.deleteSession(refreshTokenHistory.getSessionId());
+
+        // 해당 세션에서 이미 발급된 액세스 토큰만 sid로 폐기 (토큰 세대는 올리지 않으므로 다른 기기의 액세스 토큰은 유지)
+        accessTokenDenylist.revokeSession(refreshTokenHistory.getSessionId(), user.username());
+    }
+
+    /**
+     * 사용자의 모든 세션을 삭제하고, 토큰 세대를 올려 이미 발급된 모든 액세스 토큰을 무효화
+     */
+    @Transactional
+    public void revokeAllTokens(UserAuthRecord user) {
+        userSessionRepository.deleteAllByUserId(user.id());
+        incrementTokenEpoch(user);
+    }
+
+    private String createAccessToken(UserAuthRecord user, String sessionId) {
+        return jwtUtil.createAccessToken(user.username(), user.role(), user.tokenEpoch(), sessionId);
+    }
+
+    private void incrementTokenEpoch(UserAuthRecord user) {
+        // 토큰 세대 증가 후 변경 기록 저장 (다른 노드는 변경 기록을 폴링하여 반영)
+        userRepository.incrementTokenEpoch(user.id());
+        long epoch = userRepository.findTokenEpochById(user.id());
+        Instant changedAt = Instant.now();
+
+        tokenEpochChangeRepository.save(TokenEpochChange.builder()
+                .username(user.username())
+                .epoch(epoch)
+                .changedAt(changedAt)
+                .build());
 
-        // 해당 유저의 모든 리프레시 토큰 삭제
-        refreshTokenRepository.deleteAllByUserId(refreshTokenHistory.getUser().getId());
+        // 현재 노드에는 즉시 반영 (캐시된 사용자 정보는 세대 변경 이벤트로 트랜잭션 완료 후 무효화)
+        tokenEpochRegistry.apply(user.username(), epoch, changedAt);
     }
 }
@@ -0,0 +1,161 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.common.config.UserCacheProperties;
+import com.example.jwt_auth.common.jwt.TokenEpochChangedEvent;
+import com.example.jwt_auth.common.support.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 인증 경로의 사용자 조회 결과(UserAuthRecord)를 보관하는 프로세스 내 캐시
+ * - Key: 사용자 이름 (ID 조회는 ID -> 사용자 이름 인덱스를 거침)
+ * - 유효 시간(app.user-cache.ttl)이 지난 항목은 반환하지 않으며, 최대 크기를 넘으면 캐싱하지 않습니다.
+ * - 같은 노드의 변경은 트랜잭션 완료 후 무효화하고, 다른 노드의 토큰 세대 변경은 TokenEpochChangedEvent로 무효화합니다.
+ * - 조회 중에 무효화가 일어나면 조회 결과를 캐싱하지 않아, 무효화 이전 값이 다시 들어가지 않습니다.
+ */
+@Component
+public class UserAuthCache {
+
+    private final UserRepository userRepository;
+    private final UserCacheProperties properties;
+
+    private final BoundedTtlCache<String, UserAuthRecord> entries;
+    private final BoundedTtlCache<Long, String> usernamesById;
+
+    /** 무효화가 일어날 때마다 증가 (조회 시작 이후 무효화 여부 판단) */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserAuthCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.entries = new BoundedTtlCache<>(properties.maxSize());
+        this.usernamesById = new BoundedTtlCache<>(properties.maxSize());
+
+        FunctionCounter.builder("user.auth.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.auth.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("user.auth.cache.size", entries, BoundedTtlCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 이름으로 인증 정보 조회 (캐시에 없으면 DB 조회 후 캐싱)
+     */
+    public Optional<UserAuthRecord> findByUsername(String username) {
+        UserAuthRecord cached = get(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(() -> userRepository.findByUsername(username).map(UserAuthRecord::from));
+    }
+
+    /**
+     * 사용자 ID로 인증 정보 조회 (캐시에 없으면 DB 조회 후 캐싱)
+     */
+    public Optional<UserAuthRecord> findById(Long id) {
+        String username = properties.enabled() ? usernamesById.get(id, Instant.now()) : null;
+        UserAuthRecord cached = username != null ? get(username) : null;
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(() -> userRepository.findById(id).map(UserAuthRecord::from));
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤 사용자 인증 정보 무효화 (트랜잭션이 없으면 즉시)
+     * - 커밋 전에 무효화하면 다른 요청이 변경 전 값을 다시 캐싱할 수 있으므로, 완료 후에도 한 번 더 무효화합니다.
+     */
+    public void invalidate(String username) {
+        evict(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    /**
+     * 토큰 세대가 바뀐 사용자 무효화 (다른 노드의 변경은 세대 변경 기록 폴링으로 전달됨)
+     */
+    @EventListener
+    public void onTokenEpochChanged(TokenEpochChangedEvent event) {
+        invalidate(event.username());
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private UserAuthRecord get(String username) {
+        if (!properties.enabled()) {
+            return null;
+        }
+
+        UserAuthRecord cached = entries.get(username, Instant.now());
+        if (cached != null) {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    private Optional<UserAuthRecord> load(Supplier<Optional<UserAuthRecord>> loader) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+
+        misses.increment();
+        long loadedAt = generation.get();
+        Optional<UserAuthRecord> loaded = loader.get();
+
+        // 조회 도중 무효화가 없었던 경우에만 캐싱 (존재하지 않는 사용자는 캐싱하지 않음)
+        loaded.ifPresent(record -> {
+            if (generation.get() == loadedAt) {
+                put(record);
+            }
+        });
+        return loaded;
+    }
+
+    private void put(UserAuthRecord record) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(properties.ttl());
+        // 최대 크기를 넘으면 캐싱하지 않음
+        if (entries.put(record.username(), record, expiresAt, now)) {
+            usernamesById.put(record.id(), record.username(), expiresAt, now);
+        }
+    }
+
+    private void evict(String username) {
+        generation.incrementAndGet();
+        UserAuthRecord removed = entries.remove(username);
+        if (removed != null) {
+            usernamesById.remove(removed.id());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.enums.Role;
+
+/**
+ * 인증 경로에서 필요한 사용자 정보 스냅샷 (불변 객체, UserAuthCache에 보관)
+ *
+ * @param id           사용자 ID
+ * @param username     사용자 이름
+ * @param passwordHash 비밀번호 해시 (소셜 전용 계정은 null)
+ * @param role         사용자 역할
+ * @param tokenEpoch   사용자 토큰 세대
+ */
+public record UserAuthRecord(
+        Long id,
+        String username,
+        String passwordHash,
+        Role role,
+        long tokenEpoch
+) {
+    public static UserAuthRecord from(User user) {
+        return new UserAuthRecord(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getRole(),
+                user.getTokenEpoch()
+        );
+    }
+}
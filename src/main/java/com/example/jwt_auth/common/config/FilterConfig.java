@@ -1,15 +1,15 @@
 package com.example.jwt_auth.common.config;
 
 import com.example.jwt_auth.auth.entity.enums.Role;
+import com.example.jwt_auth.common.jwt.AuthorizationRules;
 import com.example.jwt_auth.common.jwt.JwtAuthenticationFilter;
 import com.example.jwt_auth.common.jwt.JwtAuthorizationFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
 @Configuration
 public class FilterConfig {
@@ -24,11 +24,15 @@ public class FilterConfig {
         FilterRegistrationBean<JwtAuthenticationFilter> registrationBean = new FilterRegistrationBean<>();
         registrationBean.setFilter(jwtAuthenticationFilter);
 
-        // 인증 적용 URL
-        registrationBean.addUrlPatterns(
-                "/images", "/images/*",
-                "/post", "/post/**"
-        );
+        // 인증 적용 URL (서블릿 매핑은 "**"를 이해하지 못하므로 서블릿 형식으로 변환하여 등록)
+        registrationBean.addUrlPatterns(Stream.of(
+                        "/images", "/images/*",
+                        "/post", "/post/**",
+                        "/sessions", "/sessions/*"
+                )
+                .map(AuthorizationRules::toServletUrlPattern)
+                .distinct()
+                .toArray(String[]::new));
 
         // 필터 체인 실행 순서 설정
         registrationBean.setOrder(1);
@@ -38,20 +42,22 @@ public class FilterConfig {
 
     /**
      * 역할별 인가 규칙 정의
+     * - 시작 시 경로 트라이로 컴파일되며, 겹치는 규칙은 가장 구체적인 규칙이 적용됨
      * - JwtAuthorizationFilter에서 이 Bean을 주입받아 사용
      */
     @Bean
-    public Map<String, String> roleRules() {
-        Map<String, String> rules = new HashMap<>();
+    public AuthorizationRules roleRules() {
+        AuthorizationRules.Builder rules = AuthorizationRules.builder();
 
         // USER 권한이 필요한 URL 패턴 정의
         List<String> userPatterns = List.of(
-                "/post", "/post/**"
+                "/post", "/post/**",
+                "/sessions", "/sessions/*"
         );
 
-        userPatterns.forEach(pattern -> rules.put(pattern, Role.USER.name()));
+        userPatterns.forEach(pattern -> rules.rule(pattern, Role.USER));
 
-        return rules;
+        return rules.build();
     }
 
     /**
@@ -60,13 +66,13 @@ public class FilterConfig {
     @Bean
     public FilterRegistrationBean<JwtAuthorizationFilter> authorizationFilter(
             JwtAuthorizationFilter jwtAuthorizationFilter,
-            Map<String, String> roleRules
+            AuthorizationRules roleRules
     ) {
         FilterRegistrationBean<JwtAuthorizationFilter> registrationBean = new FilterRegistrationBean<>();
         registrationBean.setFilter(jwtAuthorizationFilter);
 
-        // roleRules의 key(URL 패턴)를 추출하여 해당 URL 요청에만 필터가 적용되도록 설정
-        String[] urlPatterns = roleRules.keySet().toArray(new String[0]);
+        // roleRules의 URL 패턴을 서블릿 형식으로 변환한 목록으로 등록 (세부 매칭은 필터 안에서 수행)
+        String[] urlPatterns = roleRules.urlPatterns();
         registrationBean.addUrlPatterns(urlPatterns);
 
         // 필터 체인 실행 순서 설정
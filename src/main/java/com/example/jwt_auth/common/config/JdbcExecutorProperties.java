@@ -0,0 +1,25 @@
+package com.example.jwt_auth.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 요청 처리 중 DB 작업을 실행하는 전용 스레드 풀 설정
+ *
+ * @param threads       DB 작업 스레드 수 (커넥션 풀 크기 이하 권장)
+ * @param queueCapacity 대기열 최대 크기 (가득 차면 즉시 503 응답)
+ */
+@ConfigurationProperties(prefix = "app.jdbc-executor")
+public record JdbcExecutorProperties(
+        @DefaultValue("16") int threads,
+        @DefaultValue("256") int queueCapacity
+) {
+    public JdbcExecutorProperties {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("'app.jdbc-executor.threads'는 0보다 커야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("'app.jdbc-executor.queue-capacity'는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.jwt_auth.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "jwt")
+public record JwtProperties(
+        @DefaultValue Cache cache,
+        @DefaultValue Revocation revocation,
+        @DefaultValue Epoch epoch,
+        @DefaultValue Refresh refresh
+) {
+    /**
+     * 검증된 액세스 토큰 캐시 설정
+     *
+     * @param enabled 캐시 사용 여부
+     * @param maxSize 캐시에 보관할 최대 토큰 수
+     */
+    public record Cache(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10000") int maxSize
+    ) {
+        public Cache {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("'jwt.cache.max-size'는 0보다 커야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * 액세스 토큰 폐기 목록(블룸 필터) 설정
+     *
+     * @param expectedInsertions 블룸 필터에 담을 예상 폐기 토큰 수 (초과 시 재구성)
+     * @param falsePositiveRate  블룸 필터 목표 오탐률 (오탐 시 DB 확인)
+     * @param pollOverlap        증분 폴링 시 다시 조회할 겹침 구간
+     * @param rebuildInterval    만료 항목 정리를 위한 블룸 필터 재구성 주기
+     */
+    public record Revocation(
+            @DefaultValue("100000") int expectedInsertions,
+            @DefaultValue("0.01") double falsePositiveRate,
+            @DefaultValue("PT30S") Duration pollOverlap,
+            @DefaultValue("PT1H") Duration rebuildInterval
+    ) {}
+
+    /**
+     * 사용자 토큰 세대(epoch) 동기화 설정
+     *
+     * @param pollOverlap 증분 폴링 시 다시 조회할 겹침 구간
+     */
+    public record Epoch(
+            @DefaultValue("PT30S") Duration pollOverlap
+    ) {}
+
+    /**
+     * 리프레시 토큰 회전(재발급) 설정
+     *
+     * @param gracePeriod       같은 리프레시 토큰으로 동시에 들어온 중복 재발급 요청에 이미 발급된 토큰을 돌려주는 유예 시간 (0이면 사용 안 함)
+     * @param graceCacheMaxSize 유예 시간 동안 보관할 최대 재발급 결과 수
+     * @param history           리프레시 토큰 사용 기록 저장 설정
+     * @param purge             만료된 리프레시 토큰 및 사용 기록 정리 설정
+     */
+    public record Refresh(
+            @DefaultValue("PT10S") Duration gracePeriod,
+            @DefaultValue("10000") int graceCacheMaxSize,
+            @DefaultValue History history,
+            @DefaultValue Purge purge
+    ) {
+        public Refresh {
+            if (gracePeriod.isNegative()) {
+                throw new IllegalArgumentException("'jwt.refresh.grace-period'는 음수일 수 없습니다.");
+            }
+            if (graceCacheMaxSize <= 0) {
+                throw new IllegalArgumentException("'jwt.refresh.grace-cache-max-size'는 0보다 커야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * 리프레시 토큰 사용 기록 쓰기 지연(write-behind) 설정
+     *
+     * @param writeBehind 사용 기록을 요청 트랜잭션 밖에서 모아 저장할지 여부 (false면 요청 트랜잭션 안에서 즉시 저장)
+     * @param bufferSize  저장 대기 중인 사용 기록을 담는 버퍼 크기 (가득 차면 요청 스레드에서 즉시 저장)
+     * @param batchSize   한 번에 저장할 최대 사용 기록 수
+     */
+    public record History(
+            @DefaultValue("false") boolean writeBehind,
+            @DefaultValue("4096") int bufferSize,
+            @DefaultValue("200") int batchSize
+    ) {
+        public History {
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("'jwt.refresh.history.buffer-size'는 0보다 커야 합니다.");
+            }
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("'jwt.refresh.history.batch-size'는 0보다 커야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * 만료된 리프레시 토큰 및 사용 기록 정리 설정
+     *
+     * @param chunkSize     한 트랜잭션에서 삭제할 최대 행 수
+     * @param pause         청크 사이 대기 시간 (잠금 경합 완화)
+     * @param leaseDuration 정리 작업 임대 기간 (한 번의 실행은 이 시간을 넘기지 않음)
+     */
+    public record Purge(
+            @DefaultValue("1000") int chunkSize,
+            @DefaultValue("PT0.05S") Duration pause,
+            @DefaultValue("PT10M") Duration leaseDuration
+    ) {
+        public Purge {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("'jwt.refresh.purge.chunk-size'는 0보다 커야 합니다.");
+            }
+        }
+    }
+}
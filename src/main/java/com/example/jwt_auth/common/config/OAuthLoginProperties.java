@@ -0,0 +1,27 @@
+package com.example.jwt_auth.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 중복 소셜 로그인 요청 병합 설정
+ *
+ * @param resultTtl 같은 Authorization Code로 다시 들어온 요청에 이미 발급된 토큰을 돌려주는 시간 (0이면 결과를 보관하지 않음)
+ * @param maxSize   보관할 최대 로그인 결과 수
+ */
+@ConfigurationProperties(prefix = "app.oauth-login")
+public record OAuthLoginProperties(
+        @DefaultValue("PT10S") Duration resultTtl,
+        @DefaultValue("1000") int maxSize
+) {
+    public OAuthLoginProperties {
+        if (resultTtl.isNegative()) {
+            throw new IllegalArgumentException("'app.oauth-login.result-ttl'은 음수일 수 없습니다.");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("'app.oauth-login.max-size'는 0보다 커야 합니다.");
+        }
+    }
+}
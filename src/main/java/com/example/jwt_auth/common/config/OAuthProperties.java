@@ -1,6 +1,11 @@
 package com.example.jwt_auth.common.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
 
 @ConfigurationProperties(prefix = "oauth")
 public record OAuthProperties(
@@ -8,21 +13,100 @@ public record OAuthProperties(
         Kakao kakao,
         Naver naver
 ) {
+    /**
+     * @param oidc                   ID 토큰(id_token)을 로컬에서 검증하여 사용자 정보 조회 API 호출을 생략할지 여부
+     *                               (인가 요청에 openid, email, profile 스코프 필요)
+     * @param tokenUri               토큰 발급 엔드포인트
+     * @param userInfoUri            사용자 정보 조회 엔드포인트 (oidc=false일 때 사용)
+     * @param jwksUri                ID 토큰 서명 검증용 공개 키 목록(JWKS) 엔드포인트
+     * @param issuers                허용하는 ID 토큰 발급자(iss)
+     * @param jwksRefreshInterval    JWKS 백그라운드 갱신 주기
+     * @param jwksMinRefreshInterval 처음 보는 키 ID(kid)로 JWKS를 즉시 다시 조회하는 최소 간격
+     * @param http                   HTTP 클라이언트 설정
+     */
     public record Google(
             String clientId,
             String clientSecret,
-            String redirectUri
+            String redirectUri,
+            @DefaultValue("false") boolean oidc,
+            @DefaultValue("https://oauth2.googleapis.com/token") String tokenUri,
+            @DefaultValue("https://www.googleapis.com/oauth2/v2/userinfo") String userInfoUri,
+            @DefaultValue("https://www.googleapis.com/oauth2/v3/certs") String jwksUri,
+            @DefaultValue({"https://accounts.google.com", "accounts.google.com"}) List<String> issuers,
+            @DefaultValue("PT1H") Duration jwksRefreshInterval,
+            @DefaultValue("PT30S") Duration jwksMinRefreshInterval,
+            @DefaultValue Http http
     ) {}
 
+    /**
+     * @param tokenUri    토큰 발급 엔드포인트
+     * @param userInfoUri 사용자 정보 조회 엔드포인트
+     * @param http        HTTP 클라이언트 설정
+     */
     public record Kakao(
             String clientId,
             String clientSecret,
-            String redirectUri
+            String redirectUri,
+            @DefaultValue("https://kauth.kakao.com/oauth/token") String tokenUri,
+            @DefaultValue("https://kapi.kakao.com/v2/user/me") String userInfoUri,
+            @DefaultValue Http http
     ) {}
 
+    /**
+     * @param tokenUri    토큰 발급 엔드포인트
+     * @param userInfoUri 사용자 정보 조회 엔드포인트
+     * @param http        HTTP 클라이언트 설정
+     */
     public record Naver(
             String clientId,
             String clientSecret,
-            String redirectUri
+            String redirectUri,
+            @DefaultValue("https://nid.naver.com/oauth2.0/token") String tokenUri,
+            @DefaultValue("https://openapi.naver.com/v1/nid/me") String userInfoUri,
+            @DefaultValue Http http
+    ) {}
+
+    /**
+     * Provider별 HTTP 클라이언트 설정 (Provider마다 별도 커넥션 풀 사용)
+     *
+     * @param maxConnections         최대 커넥션 수
+     * @param pendingAcquireMaxCount 커넥션을 기다리는 요청의 최대 수 (초과하면 즉시 실패)
+     * @param pendingAcquireTimeout  커넥션 획득 최대 대기 시간
+     * @param connectTimeout         TCP 연결 제한 시간
+     * @param responseTimeout        요청 전송 후 응답 수신 제한 시간
+     * @param maxIdleTime            유휴 커넥션 유지 시간 (Provider 측 keep-alive 시간보다 짧게 설정)
+     * @param maxLifeTime            커넥션 최대 수명 (DNS 변경 반영)
+     * @param maxRetries             멱등 요청(GET)의 재시도 횟수 (토큰 발급 요청은 재시도하지 않음)
+     * @param retryBackoff           첫 재시도 대기 시간 (지수 증가, 지터 적용)
+     * @param maxResponseSize        응답 본문을 메모리에 버퍼링하는 최대 크기 (초과하면 디코딩 실패)
+     * @param circuitBreaker         서킷 브레이커 설정
+     */
+    public record Http(
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("100") int pendingAcquireMaxCount,
+            @DefaultValue("PT1S") Duration pendingAcquireTimeout,
+            @DefaultValue("PT2S") Duration connectTimeout,
+            @DefaultValue("PT5S") Duration responseTimeout,
+            @DefaultValue("PT30S") Duration maxIdleTime,
+            @DefaultValue("PT5M") Duration maxLifeTime,
+            @DefaultValue("2") int maxRetries,
+            @DefaultValue("PT0.1S") Duration retryBackoff,
+            @DefaultValue("64KB") DataSize maxResponseSize,
+            @DefaultValue CircuitBreaker circuitBreaker
+    ) {}
+
+    /**
+     * @param failureRateThreshold 서킷을 여는 실패율 (%)
+     * @param slidingWindowSize    실패율을 계산할 최근 호출 수
+     * @param minimumCalls         실패율을 계산하기 위한 최소 호출 수
+     * @param openDuration         서킷이 열린 뒤 호출을 거절하는 시간
+     * @param halfOpenCalls        열린 뒤 시험 삼아 허용하는 호출 수 (모두 성공하면 서킷을 닫음)
+     */
+    public record CircuitBreaker(
+            @DefaultValue("50") int failureRateThreshold,
+            @DefaultValue("20") int slidingWindowSize,
+            @DefaultValue("10") int minimumCalls,
+            @DefaultValue("PT30S") Duration openDuration,
+            @DefaultValue("3") int halfOpenCalls
     ) {}
-}
\ No newline at end of file
+}
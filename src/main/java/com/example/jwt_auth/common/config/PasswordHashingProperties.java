@@ -0,0 +1,64 @@
+package com.example.jwt_auth.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정
+ *
+ * @param threads       해싱 스레드 수 (0 이하이면 CPU 코어 수)
+ * @param queueCapacity 대기열 최대 크기 (가득 차면 즉시 503 응답)
+ * @param timeout       해싱 결과를 기다리는 최대 시간
+ * @param algorithm     새 해시에 사용할 알고리즘
+ * @param targetLatency 해시 1회에 목표로 하는 소요 시간 (시작 시 이 시간에 맞춰 비용을 보정)
+ * @param bcrypt        BCrypt 비용(strength) 범위
+ * @param argon2        Argon2id 파라미터
+ */
+@ConfigurationProperties(prefix = "app.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("PT5S") Duration timeout,
+        @DefaultValue("BCRYPT") Algorithm algorithm,
+        @DefaultValue("PT0.25S") Duration targetLatency,
+        @DefaultValue Bcrypt bcrypt,
+        @DefaultValue Argon2 argon2
+) {
+    public PasswordHashingProperties {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("'app.password-hashing.queue-capacity'는 0보다 커야 합니다.");
+        }
+    }
+
+    public enum Algorithm {
+        BCRYPT,
+        ARGON2
+    }
+
+    /**
+     * @param minStrength 보정 결과와 관계없이 사용할 최소 비용 (기본값: BCrypt 기본 비용 10)
+     * @param maxStrength 보정 결과의 최대 비용
+     */
+    public record Bcrypt(
+            @DefaultValue("10") int minStrength,
+            @DefaultValue("16") int maxStrength
+    ) {}
+
+    /**
+     * @param memoryKib     메모리 사용량 (KiB)
+     * @param parallelism   병렬도
+     * @param minIterations 보정 결과와 관계없이 사용할 최소 반복 횟수
+     * @param maxIterations 보정 결과의 최대 반복 횟수
+     */
+    public record Argon2(
+            @DefaultValue("19456") int memoryKib,
+            @DefaultValue("1") int parallelism,
+            @DefaultValue("2") int minIterations,
+            @DefaultValue("10") int maxIterations
+    ) {}
+}
@@ -0,0 +1,46 @@
+package com.example.jwt_auth.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * OAuth 프로필 이미지 복제(미러링) 설정
+ *
+ * @param enabled        미러링 사용 여부 (사용하지 않으면 Provider 이미지 URL을 그대로 저장)
+ * @param target         이미지를 저장할 app.upload.image.targets 항목 이름
+ * @param threads        이미지 다운로드 스레드 수
+ * @param queueCapacity  대기열 최대 크기 (가득 차면 이번 로그인에서는 미러링을 건너뜀)
+ * @param maxSize        다운로드할 이미지의 최대 크기
+ * @param timeout        이미지 다운로드 제한 시간
+ * @param allowedSchemes 내려받을 수 있는 URL 스킴 (기본값 https만 허용)
+ * @param allowedHosts   내려받을 수 있는 호스트 (Provider 이미지 CDN, "."으로 시작하면 그 도메인의 하위 호스트 전체)
+ * @param maxRedirects   따라갈 최대 리다이렉트 횟수 (리다이렉트 대상도 스킴/호스트를 다시 확인)
+ */
+@ConfigurationProperties(prefix = "app.profile-image-mirror")
+public record ProfileImageMirrorProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("profile") String target,
+        @DefaultValue("2") int threads,
+        @DefaultValue("100") int queueCapacity,
+        @DefaultValue("2MB") DataSize maxSize,
+        @DefaultValue("PT5S") Duration timeout,
+        @DefaultValue("https") List<String> allowedSchemes,
+        @DefaultValue({".googleusercontent.com", ".kakaocdn.net", ".pstatic.net"}) List<String> allowedHosts,
+        @DefaultValue("3") int maxRedirects
+) {
+    public ProfileImageMirrorProperties {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("'app.profile-image-mirror.threads'는 0보다 커야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("'app.profile-image-mirror.queue-capacity'는 0보다 커야 합니다.");
+        }
+        if (maxRedirects < 0) {
+            throw new IllegalArgumentException("'app.profile-image-mirror.max-redirects'는 0 이상이어야 합니다.");
+        }
+    }
+}
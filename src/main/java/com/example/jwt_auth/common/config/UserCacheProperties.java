@@ -0,0 +1,26 @@
+package com.example.jwt_auth.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 인증 정보 캐시 설정
+ *
+ * @param enabled 캐시 사용 여부
+ * @param ttl     캐시 항목 유효 시간 (다른 노드의 변경이 늦게 반영될 수 있는 최대 시간)
+ * @param maxSize 캐시에 보관할 최대 사용자 수
+ */
+@ConfigurationProperties(prefix = "app.user-cache")
+public record UserCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT1M") Duration ttl,
+        @DefaultValue("10000") int maxSize
+) {
+    public UserCacheProperties {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("'app.user-cache.max-size'는 0보다 커야 합니다.");
+        }
+    }
+}
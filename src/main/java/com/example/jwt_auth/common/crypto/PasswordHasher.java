@@ -0,0 +1,144 @@
+package com.example.jwt_auth.common.crypto;
+
+import com.example.jwt_auth.common.config.PasswordHashingProperties;
+import com.example.jwt_auth.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/비교를 전용 스레드 풀에서 수행
+ * - BCrypt/Argon2는 의도적으로 느린 CPU 작업이므로 Tomcat 요청 스레드와 분리하여 CPU 코어 수만큼만 동시에 실행합니다.
+ * - 대기열이 가득 차면 요청 스레드를 붙잡아 두지 않고 즉시 ServiceOverloadedException(503)을 발생시킵니다.
+ * - 해싱 비용은 시작 시 목표 소요 시간에 맞춰 보정됩니다. (PasswordHashingPolicy 참고)
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer hashTimer;
+    private final Timer matchTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = PasswordHashingPolicy.calibrate(properties);
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = properties.timeout();
+
+        this.hashTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "hash")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "match")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해싱
+     */
+    public String hash(CharSequence rawPassword) {
+        return execute(hashTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 입력된 비밀번호와 저장된 해시 비교
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 입력된 비밀번호와 저장된 해시를 비교하고, 저장된 해시가 현재 정책보다 약하거나 다른 알고리즘이면 새로 해싱
+     * - 비교와 재해싱을 한 번의 작업으로 처리하여 대기열을 두 번 거치지 않습니다.
+     */
+    public Verification verify(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchTimer, () -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String upgradedPassword = passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, upgradedPassword);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("비밀번호 처리 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("비밀번호 처리 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 비밀번호 비교 결과
+     *
+     * @param matched          비밀번호 일치 여부
+     * @param upgradedPassword 현재 정책으로 새로 해싱한 비밀번호 (재해싱이 필요 없으면 null)
+     */
+    public record Verification(boolean matched, String upgradedPassword) {
+        public boolean needsUpgrade() {
+            return upgradedPassword != null;
+        }
+    }
+
+    private static final class HasherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.jwt_auth.common.crypto;
+
+import com.example.jwt_auth.common.config.PasswordHashingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 현재 하드웨어에 맞춰 해싱 비용을 보정한 PasswordEncoder 생성
+ * - 새 해시는 "{알고리즘}해시" 형식으로 저장되며, 해시 자체에 비용(BCrypt strength, Argon2 파라미터)이 포함됩니다.
+ * - 접두사가 없는 기존 BCrypt 해시도 비교할 수 있으며, 로그인 시 현재 정책으로 재해싱 대상이 됩니다.
+ */
+@Slf4j
+final class PasswordHashingPolicy {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String ARGON2_ID = "argon2";
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private PasswordHashingPolicy() {
+    }
+
+    static PasswordEncoder calibrate(PasswordHashingProperties properties) {
+        long targetNanos = properties.targetLatency().toNanos();
+
+        PasswordHashingProperties.Bcrypt bcrypt = properties.bcrypt();
+        int strength = properties.algorithm() == PasswordHashingProperties.Algorithm.BCRYPT
+                ? calibrateBcryptStrength(bcrypt, targetNanos)
+                : bcrypt.minStrength();
+
+        PasswordHashingProperties.Argon2 argon2 = properties.argon2();
+        int iterations = properties.algorithm() == PasswordHashingProperties.Algorithm.ARGON2
+                ? calibrateArgon2Iterations(argon2, targetNanos)
+                : argon2.minIterations();
+
+        String idForEncode = properties.algorithm() == PasswordHashingProperties.Algorithm.ARGON2 ? ARGON2_ID : BCRYPT_ID;
+        log.info("비밀번호 해싱 정책: algorithm={}, bcryptStrength={}, argon2Iterations={}, argon2MemoryKib={}",
+                idForEncode, strength, iterations, argon2.memoryKib());
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, Map.of(
+                BCRYPT_ID, new BCryptPasswordEncoder(strength),
+                ARGON2_ID, argon2Encoder(argon2, iterations)
+        ));
+        // 접두사 없이 저장된 기존 BCrypt 해시 비교용
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return passwordEncoder;
+    }
+
+    /**
+     * 최소 비용으로 측정한 시간을 기준으로 목표 시간을 넘지 않는 최대 비용 계산 (비용이 1 증가할 때마다 시간은 2배)
+     */
+    private static int calibrateBcryptStrength(PasswordHashingProperties.Bcrypt bcrypt, long targetNanos) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(bcrypt.minStrength());
+        long measured = measure(() -> encoder.encode(CALIBRATION_PASSWORD));
+
+        int strength = bcrypt.minStrength();
+        while (strength < bcrypt.maxStrength() && measured * 2 <= targetNanos) {
+            measured *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    /**
+     * 최소 반복 횟수로 측정한 시간을 기준으로 목표 시간을 넘지 않는 최대 반복 횟수 계산 (시간은 반복 횟수에 비례)
+     */
+    private static int calibrateArgon2Iterations(PasswordHashingProperties.Argon2 argon2, long targetNanos) {
+        PasswordEncoder encoder = argon2Encoder(argon2, argon2.minIterations());
+        long measured = Math.max(1, measure(() -> encoder.encode(CALIBRATION_PASSWORD)));
+
+        long iterations = targetNanos * argon2.minIterations() / measured;
+        return (int) Math.max(argon2.minIterations(), Math.min(argon2.maxIterations(), iterations));
+    }
+
+    private static PasswordEncoder argon2Encoder(PasswordHashingProperties.Argon2 argon2, int iterations) {
+        return new Argon2PasswordEncoder(
+                ARGON2_SALT_LENGTH,
+                ARGON2_HASH_LENGTH,
+                argon2.parallelism(),
+                argon2.memoryKib(),
+                iterations
+        );
+    }
+
+    /** JIT 워밍업 후 3회 측정한 최소 소요 시간 (나노초) */
+    private static long measure(Supplier<String> hashing) {
+        hashing.get();
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            hashing.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
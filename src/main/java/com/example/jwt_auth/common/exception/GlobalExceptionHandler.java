@@ -1,6 +1,7 @@
 package com.example.jwt_auth.common.exception;
 
 import com.example.jwt_auth.common.exception.response.ApiErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,4 +22,19 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(responseBody);
     }
+
+    // 처리 용량 초과로 즉시 거절된 요청 처리 (클라이언트는 잠시 후 재시도)
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<?> handleServiceOverloadedException(ServiceOverloadedException exception) {
+        var responseBody = ApiErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value()) // 503 상태 코드
+                .code(exception.getClass().getSimpleName())
+                .message(exception.getMessage())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(responseBody);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.jwt_auth.common.exception;
+
+/**
+ * 처리 용량을 초과하여 요청을 즉시 거절할 때 발생하는 예외 (503 Service Unavailable)
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.RevokedAccessToken;
+import com.example.jwt_auth.auth.entity.RevokedSession;
+import com.example.jwt_auth.auth.repository.RevokedAccessTokenRepository;
+import com.example.jwt_auth.auth.repository.RevokedSessionRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti)과 로그인 세션(sid) 목록
+ * - 요청마다 DB를 조회하지 않도록 메모리의 블룸 필터로 먼저 걸러내고,
+ *   블룸 필터가 "포함 가능"이라고 답한 경우(실제 폐기 또는 오탐)에만 DB에서 확인합니다.
+ * - 각 노드는 폐기 테이블을 주기적으로 폴링하여 다른 노드에서 폐기된 토큰을 블룸 필터에 증분 반영하고,
+ *   만료된 항목을 비우기 위해 일정 주기마다 블룸 필터를 새로 구성합니다.
+ * - 폐기 기록이 설정된 예상 원소 수보다 많으면 실제 개수의 2배 크기로 새로 구성하여 오탐률을 유지하고,
+ *   필터가 다시 가득 찰 때까지는 재구성하지 않습니다. (설정 값을 넘은 경우 경고 로그와 jwt.revocation.bloom.overflow 메트릭)
+ * - 세션 폐기는 그 세션에서 발급된 액세스 토큰만 거부하므로, 같은 사용자의 다른 기기에는 영향이 없습니다.
+ *   (jti와 같은 블룸 필터에 "sid:" 접두사를 붙여 담음)
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    private static final String SESSION_PREFIX = "sid:";
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final RevokedSessionRepository revokedSessionRepository;
+    private final JwtProperties.Revocation properties;
+    private final Duration accessTokenLifetime;
+    private final Counter overflows;
+
+    private volatile BloomFilter bloomFilter;
+
+    /** 마지막 폴링 시각 (다음 폴링은 이 시각 - pollOverlap 이후 폐기된 토큰을 조회) */
+    private volatile Instant watermark;
+    private volatile Instant lastRebuiltAt;
+
+    public AccessTokenDenylist(
+            RevokedAccessTokenRepository revokedAccessTokenRepository,
+            RevokedSessionRepository revokedSessionRepository,
+            JwtProperties jwtProperties,
+            @Value("${jwt.access-token-expiration}") long accessExpiration,
+            MeterRegistry meterRegistry
+    ) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.revokedSessionRepository = revokedSessionRepository;
+        this.properties = jwtProperties.revocation();
+        this.accessTokenLifetime = Duration.ofSeconds(accessExpiration);
+
+        Gauge.builder("jwt.revocation.bloom.insertions", this, denylist -> denylist.bloomFilter.insertions())
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.bloom.capacity", this, denylist -> denylist.bloomFilter.expectedInsertions())
+                .register(meterRegistry);
+        this.overflows = Counter.builder("jwt.revocation.bloom.overflow")
+                .description("폐기 기록이 설정된 예상 원소 수를 넘어 블룸 필터를 더 크게 구성한 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        rebuild(Instant.now());
+    }
+
+    /**
+     * 액세스 토큰 자체(jti) 또는 토큰이 발급된 세션(sid)이 폐기되었는지 확인
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        return isRevoked(principal.jti()) || isSessionRevoked(principal.sessionId());
+    }
+
+    /**
+     * 액세스 토큰이 폐기되었는지 확인
+     *
+     * @param jti 액세스 토큰 고유 ID
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        // 블룸 필터 양성인 경우에만 DB 확인 (오탐 제거)
+        return revokedAccessTokenRepository.existsByJti(jti);
+    }
+
+    /**
+     * 세션에서 발급된 액세스 토큰이 폐기되었는지 확인
+     *
+     * @param sessionId 액세스 토큰의 세션 ID (sid 클레임)
+     * @return 폐기된 세션이면 true
+     */
+    public boolean isSessionRevoked(String sessionId) {
+        if (sessionId == null || !bloomFilter.mightContain(SESSION_PREFIX + sessionId)) {
+            return false;
+        }
+        // 블룸 필터 양성인 경우에만 DB 확인 (오탐 제거)
+        return revokedSessionRepository.existsBySessionId(sessionId);
+    }
+
+    /**
+     * 세션에서 이미 발급된 액세스 토큰을 모두 만료 시간 전까지 사용할 수 없도록 폐기
+     * - 세션 폐기 시점 이전에 발급된 토큰은 늦어도 액세스 토큰 유효 기간 뒤에 만료되므로 그때까지만 보관합니다.
+     */
+    public void revokeSession(String sessionId, String username) {
+        if (sessionId == null || revokedSessionRepository.existsBySessionId(sessionId)) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        revokedSessionRepository.save(RevokedSession.builder()
+                .sessionId(sessionId)
+                .username(username)
+                .revokedAt(now)
+                .expiresAt(now.plus(accessTokenLifetime))
+                .build());
+
+        // 현재 노드에는 폴링을 기다리지 않고 즉시 반영
+        bloomFilter.put(SESSION_PREFIX + sessionId);
+    }
+
+    /**
+     * 액세스 토큰을 만료 시간 전까지 사용할 수 없도록 폐기
+     */
+    public void revoke(JwtPrincipal principal) {
+        if (principal.jti() == null || revokedAccessTokenRepository.existsByJti(principal.jti())) {
+            return;
+        }
+
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(principal.jti())
+                .username(principal.subject())
+                .revokedAt(Instant.now())
+                .expiresAt(principal.expiresAt())
+                .build());
+
+        // 현재 노드에는 폴링을 기다리지 않고 즉시 반영
+        bloomFilter.put(principal.jti());
+    }
+
+    /**
+     * 다른 노드에서 폐기된 토큰을 블룸 필터에 반영
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.revocation.poll-interval:PT5S}",
+            initialDelayString = "${jwt.revocation.poll-interval:PT5S}"
+    )
+    public void poll() {
+        Instant now = Instant.now();
+
+        // 재구성 주기가 지났거나 현재 블룸 필터의 크기만큼 가득 찬 경우 만료된 항목을 비우기 위해 새로 구성
+        if (!lastRebuiltAt.plus(properties.rebuildInterval()).isAfter(now)
+                || bloomFilter.insertions() >= bloomFilter.expectedInsertions()) {
+            rebuild(now);
+            return;
+        }
+
+        // 트랜잭션 커밋 순서와 노드 간 시계 차이를 고려하여 겹치는 구간(pollOverlap)까지 다시 조회 (중복 추가는 무해)
+        Instant since = watermark.minus(properties.pollOverlap());
+        revokedAccessTokenRepository.findJtisRevokedSince(since).forEach(bloomFilter::put);
+        revokedSessionRepository.findSessionIdsRevokedSince(since)
+                .forEach(sessionId -> bloomFilter.put(SESSION_PREFIX + sessionId));
+        watermark = now;
+    }
+
+    /**
+     * 만료 시간이 지난 폐기 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int deleted = revokedAccessTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("만료된 액세스 토큰 폐기 기록 {}건 삭제", deleted);
+        }
+        int deletedSessions = revokedSessionRepository.deleteExpired(now);
+        if (deletedSessions > 0) {
+            log.info("만료된 세션 폐기 기록 {}건 삭제", deletedSessions);
+        }
+    }
+
+    private void rebuild(Instant now) {
+        List<String> jtis = revokedAccessTokenRepository.findJtisNotExpired(now);
+        List<String> sessionIds = revokedSessionRepository.findSessionIdsNotExpired(now);
+
+        // 살아 있는 기록이 설정 값을 넘으면 실제 개수의 2배로 구성 (다음 폴링에서 곧바로 다시 가득 차지 않도록)
+        int live = jtis.size() + sessionIds.size();
+        int capacity = properties.expectedInsertions();
+        if (live > capacity) {
+            capacity = (int) Math.min(Integer.MAX_VALUE, 2L * live);
+            overflows.increment();
+            log.warn("폐기 기록 {}건이 블룸 필터 예상 원소 수({})를 넘어 {} 크기로 구성합니다. jwt.revocation.expected-insertions 조정이 필요합니다.",
+                    live, properties.expectedInsertions(), capacity);
+        }
+
+        BloomFilter rebuilt = BloomFilter.create(capacity, properties.falsePositiveRate());
+        jtis.forEach(rebuilt::put);
+        sessionIds.forEach(sessionId -> rebuilt.put(SESSION_PREFIX + sessionId));
+
+        bloomFilter = rebuilt;
+        watermark = now;
+        lastRebuiltAt = now;
+    }
+}
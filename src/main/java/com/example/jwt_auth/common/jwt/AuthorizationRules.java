@@ -0,0 +1,275 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.enums.Permission;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import org.springframework.http.HttpMethod;
+
+import java.util.*;
+
+/**
+ * URL 패턴별 인가 규칙을 애플리케이션 시작 시 경로 트라이(trie)로 컴파일한 불변 객체
+ * - 조회 비용은 규칙 개수가 아니라 요청 경로의 세그먼트 수에 비례합니다.
+ * - 각 규칙은 필요한 역할/권한을 비트마스크로 미리 계산해 두며, 인가 검사는 비트 AND 한 번으로 끝납니다.
+ * - 지원 패턴: 리터럴 세그먼트, 한 세그먼트 경로 변수("{변수}")와 와일드카드("*"), 마지막 세그먼트의 "**"
+ *
+ * <p>여러 규칙이 겹치는 경우 가장 구체적인 규칙이 적용됩니다.
+ * <ol>
+ *     <li>앞쪽 세그먼트부터 비교하여 리터럴 > "{변수}" > "*" > "**" 순으로 우선
+ *         (우선 규칙의 나머지 경로가 매칭되지 않으면 다음 순위로 넘어감)</li>
+ *     <li>같은 패턴이면 HTTP 메서드를 지정한 규칙이 메서드 무관 규칙보다 우선</li>
+ * </ol>
+ */
+public final class AuthorizationRules {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Node root;
+    private final String[] urlPatterns;
+    private final int size;
+
+    private AuthorizationRules(Node root, String[] urlPatterns, int size) {
+        this.root = root;
+        this.urlPatterns = urlPatterns;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청 메서드와 경로에 적용될 가장 구체적인 규칙을 조회
+     *
+     * @param method HTTP 메서드 (예: GET)
+     * @param path   요청 경로 (예: /post/1)
+     * @return 매칭되는 규칙, 없으면 null
+     */
+    public Rule match(String method, String path) {
+        return match(root, method, path, nextSegmentStart(path, 0));
+    }
+
+    /**
+     * 규칙의 URL 패턴을 서블릿 URL 매핑 형식으로 변환한 목록 (필터 등록용, 등록 순서 유지, 중복 제거)
+     * - 서블릿 매핑은 정확한 경로와 "/접두사/*"만 이해하므로, 세부 매칭은 필터 안에서 트라이로 수행합니다.
+     */
+    public String[] urlPatterns() {
+        return urlPatterns.clone();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static Rule match(Node node, String method, String path, int start) {
+        // 경로의 모든 세그먼트를 소비한 경우 현재 노드의 규칙 확인
+        if (start == path.length()) {
+            Rule rule = node.ruleFor(method);
+            if (rule != null) {
+                return rule;
+            }
+            // "/post/**"는 "/post"와도 매칭
+            return node.multiWildcard != null ? node.multiWildcard.ruleFor(method) : null;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = nextSegmentStart(path, end);
+
+        // 1. 리터럴 세그먼트
+        Node literal = node.literals.get(path.substring(start, end));
+        if (literal != null) {
+            Rule rule = match(literal, method, path, next);
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        // 2. 경로 변수
+        if (node.pathVariable != null) {
+            Rule rule = match(node.pathVariable, method, path, next);
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        // 3. 한 세그먼트 와일드카드
+        if (node.singleWildcard != null) {
+            Rule rule = match(node.singleWildcard, method, path, next);
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        // 4. 나머지 경로 전체 와일드카드
+        return node.multiWildcard != null ? node.multiWildcard.ruleFor(method) : null;
+    }
+
+    /**
+     * 인가 규칙 패턴을 서블릿 URL 매핑 형식으로 변환
+     * - 처음 나오는 "*", "**", "{변수}" 세그먼트에서 자르고 "/*"를 붙입니다. (예: "/post/**" -> "/post/*", "/post/{id}/x" -> "/post/*")
+     * - 와일드카드가 없는 패턴은 정확한 경로 매핑으로 그대로 사용합니다.
+     */
+    public static String toServletUrlPattern(String pattern) {
+        StringBuilder servletPattern = new StringBuilder();
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (SINGLE_WILDCARD.equals(segment) || MULTI_WILDCARD.equals(segment) || Builder.isPathVariable(segment)) {
+                return servletPattern.append("/*").toString();
+            }
+            servletPattern.append('/').append(segment);
+        }
+        return servletPattern.isEmpty() ? "/" : servletPattern.toString();
+    }
+
+    /** 연속된 '/'를 건너뛴 다음 세그먼트의 시작 위치 */
+    private static int nextSegmentStart(String path, int from) {
+        int index = from;
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 인가 규칙
+     *
+     * @param method              HTTP 메서드 (null이면 모든 메서드)
+     * @param pattern             URL 패턴
+     * @param requiredAuthorities 접근에 필요한 역할/권한 비트마스크
+     */
+    public record Rule(
+            String method,
+            String pattern,
+            long requiredAuthorities
+    ) {
+        /**
+         * 사용자 권한 비트마스크가 이 규칙의 요구 조건을 모두 만족하는지 확인
+         */
+        public boolean isGrantedTo(long authorities) {
+            return (authorities & requiredAuthorities) == requiredAuthorities;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node pathVariable;
+        private Node singleWildcard;
+        private Node multiWildcard;
+
+        private final Map<String, Rule> rulesByMethod = new HashMap<>();
+        private Rule anyMethodRule;
+
+        private Rule ruleFor(String method) {
+            Rule rule = rulesByMethod.get(method);
+            return rule != null ? rule : anyMethodRule;
+        }
+    }
+
+    public static final class Builder {
+        private final Node root = new Node();
+        private final Set<String> urlPatterns = new LinkedHashSet<>();
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * 모든 HTTP 메서드에 적용되는 최소 역할 규칙 추가 (상위 역할도 접근 가능)
+         */
+        public Builder rule(String pattern, Role requiredRole) {
+            Objects.requireNonNull(requiredRole, "필요 역할은 필수입니다.");
+            return add(null, pattern, requiredRole.roleMask());
+        }
+
+        /**
+         * 특정 HTTP 메서드에만 적용되는 최소 역할 규칙 추가 (상위 역할도 접근 가능)
+         */
+        public Builder rule(HttpMethod method, String pattern, Role requiredRole) {
+            Objects.requireNonNull(method, "HTTP 메서드는 필수입니다.");
+            Objects.requireNonNull(requiredRole, "필요 역할은 필수입니다.");
+            return add(method.name(), pattern, requiredRole.roleMask());
+        }
+
+        /**
+         * 특정 HTTP 메서드에만 적용되는 권한 규칙 추가 (주어진 권한을 모두 가져야 접근 가능)
+         */
+        public Builder rule(HttpMethod method, String pattern, Permission... requiredPermissions) {
+            Objects.requireNonNull(method, "HTTP 메서드는 필수입니다.");
+            if (requiredPermissions.length == 0) {
+                throw new IllegalArgumentException("필요 권한은 하나 이상이어야 합니다: " + pattern);
+            }
+            return add(method.name(), pattern, Permission.maskOf(requiredPermissions));
+        }
+
+        public AuthorizationRules build() {
+            return new AuthorizationRules(root, urlPatterns.toArray(new String[0]), size);
+        }
+
+        private Builder add(String method, String pattern, long requiredAuthorities) {
+            Objects.requireNonNull(pattern, "URL 패턴은 필수입니다.");
+
+            String[] segments = Arrays.stream(pattern.split("/"))
+                    .filter(segment -> !segment.isEmpty())
+                    .toArray(String[]::new);
+
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+
+                if (MULTI_WILDCARD.equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**'는 패턴의 마지막 세그먼트에만 사용할 수 있습니다: " + pattern);
+                    }
+                    if (node.multiWildcard == null) {
+                        node.multiWildcard = new Node();
+                    }
+                    node = node.multiWildcard;
+                } else if (isPathVariable(segment)) {
+                    // 변수 이름은 매칭에 영향이 없으므로 "{id}"와 "{postId}"는 같은 노드
+                    if (node.pathVariable == null) {
+                        node.pathVariable = new Node();
+                    }
+                    node = node.pathVariable;
+                } else if (SINGLE_WILDCARD.equals(segment)) {
+                    if (node.singleWildcard == null) {
+                        node.singleWildcard = new Node();
+                    }
+                    node = node.singleWildcard;
+                } else if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                    throw new IllegalArgumentException("지원하지 않는 URL 패턴입니다: " + pattern);
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+
+            Rule rule = new Rule(method, pattern, requiredAuthorities);
+            Rule previous = method == null
+                    ? node.anyMethodRule
+                    : node.rulesByMethod.get(method);
+            if (previous != null) {
+                throw new IllegalArgumentException("중복된 인가 규칙입니다: " + previous + ", " + rule);
+            }
+
+            if (method == null) {
+                node.anyMethodRule = rule;
+            } else {
+                node.rulesByMethod.put(method, rule);
+            }
+
+            urlPatterns.add(toServletUrlPattern(pattern));
+            size++;
+            return this;
+        }
+
+        private static boolean isPathVariable(String segment) {
+            return segment.length() > 2
+                    && segment.charAt(0) == '{'
+                    && segment.charAt(segment.length() - 1) == '}';
+        }
+    }
+}
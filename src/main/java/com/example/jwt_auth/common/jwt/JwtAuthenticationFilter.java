@@ -1,5 +1,6 @@
 package com.example.jwt_auth.common.jwt;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,6 +19,9 @@ import java.io.IOException;
 public class JwtAuthenticationFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final TokenEpochRegistry tokenEpochRegistry;
 
     /**
      * 서블릿 필터 체인을 통해 들어오는 요청을 처리하여 JWT 기반 인증을 수행합니다.
@@ -41,22 +45,29 @@ public class JwtAuthenticationFilter implements Filter {
             return;
         }
 
-        // 토큰 유효성 검증
-        if (jwtUtil.isTokenValid(token)) {
-            // 유효한 경우, 토큰에서 사용자 정보 추출
-            String username = jwtUtil.getUsernameFromToken(token);
-            String role = jwtUtil.getRoleFromToken(token);
-
-            // 추출한 사용자 정보를 request attribute에 저장
-            httpRequest.setAttribute("username", username);
-            httpRequest.setAttribute("role", role);
+        // 토큰 유효성 검증 및 사용자 정보 추출 (캐시에 없을 때만 파싱/서명 검증 수행)
+        JwtPrincipal principal;
+        try {
+            principal = verifiedTokenCache.getOrVerify(token, jwtUtil::verifyAccessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 토큰이 유효하지 않거나 만료된 경우 401 Unauthorized 반환
+            httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
 
-            // 다음 필터 또는 컨트롤러로 요청 전달
-            filterChain.doFilter(servletRequest, servletResponse);
-        } else {
-            // 토큰이 유효하지 않은 경우 401 Unauthorized 반환
+        // 만료 전에 폐기된 토큰(또는 세션)이거나 사용자 토큰 세대가 바뀐 경우 401 Unauthorized 반환
+        if (accessTokenDenylist.isRevoked(principal) || !tokenEpochRegistry.isCurrent(principal)) {
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
         }
+
+        // 추출한 사용자 정보를 request attribute에 저장
+        httpRequest.setAttribute("principal", principal);
+        httpRequest.setAttribute("username", principal.subject());
+        httpRequest.setAttribute("role", principal.role());
+
+        // 다음 필터 또는 컨트롤러로 요청 전달
+        filterChain.doFilter(servletRequest, servletResponse);
     }
 
     /**
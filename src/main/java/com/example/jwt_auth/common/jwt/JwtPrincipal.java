@@ -0,0 +1,31 @@
+package com.example.jwt_auth.common.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 완료된 액세스 토큰의 주체 정보 (불변 객체)
+ *
+ * @param subject     토큰 주체 (사용자 이름)
+ * @param role        사용자 역할
+ * @param authorities 역할/권한 비트마스크 (Role, Permission 참고)
+ * @param epoch       토큰 발급 시점의 사용자 토큰 세대
+ * @param jti         토큰 고유 ID
+ * @param sessionId   토큰이 발급된 로그인 세션 ID (세션 없이 발급된 토큰은 null)
+ * @param expiresAt   토큰 만료 시간
+ */
+public record JwtPrincipal(
+        String subject,
+        String role,
+        long authorities,
+        long epoch,
+        String jti,
+        String sessionId,
+        Instant expiresAt
+) {
+    /**
+     * 주어진 시점에 토큰이 만료되었는지 확인
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.jwt_auth.common.jwt;
 
 import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.enums.Role;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,72 +14,148 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.time.Instant;
 import java.util.*;
 
 @Component
 public class JwtUtil {
+    /** 역할/권한 비트마스크 클레임 이름 */
+    private static final String AUTHORITIES_CLAIM = "auth";
+    /** 사용자 토큰 세대(epoch) 클레임 이름 */
+    private static final String EPOCH_CLAIM = "epc";
+    /** 로그인 세션 ID 클레임 이름 */
+    private static final String SESSION_CLAIM = "sid";
+
     private final SecretKey secretKey;
+    private final long accessExpiration;
+
+    // 서명 검증용 파서 (불변 & 스레드 안전하므로 한 번만 생성하여 재사용)
+    private final JwtParser jwtParser;
 
-    @Value("${jwt.access-token-expiration}")
-    private Long accessExpiration;
+    // 리프레시 토큰 랜덤 바이트 생성용 (스레드 안전)
+    private final SecureRandom secureRandom = new SecureRandom();
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    public JwtUtil(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.access-token-expiration}") long accessExpiration
+    ) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 SIG.HS256.key().build().getAlgorithm());
+        this.accessExpiration = accessExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String createAccessToken(User user) {
+        return createAccessToken(user, null);
+    }
+
+    /**
+     * 로그인 세션에 속한 액세스 토큰 생성
+     *
+     * @param sessionId 토큰을 발급한 세션 ID (null이면 세션 클레임 생략)
+     */
+    public String createAccessToken(User user, String sessionId) {
+        return createAccessToken(user.getUsername(), user.getRole(), user.getTokenEpoch(), sessionId);
+    }
+
+    /**
+     * 엔티티 조회 없이 (캐시된) 사용자 정보로 액세스 토큰 생성
+     *
+     * @param username   사용자 이름
+     * @param role       사용자 역할
+     * @param tokenEpoch 사용자 토큰 세대
+     * @param sessionId  토큰을 발급한 세션 ID (null이면 세션 클레임 생략)
+     */
+    public String createAccessToken(String username, Role role, long tokenEpoch, String sessionId) {
         long refreshExpirationInMillis = accessExpiration * 1000; // 초를 밀리초로 변환
 
         return Jwts.builder()
                 .issuer("backend") // JWT 발급자 정보
                 .audience().add("frontend").and() // JWT 수신 대상
-                .subject(user.getUsername()) // JWT 주제 설정
+                .subject(username) // JWT 주제 설정
                 .issuedAt(new Date(System.currentTimeMillis())) // JWT 발급 시간
                 .expiration(new Date(System.currentTimeMillis() + refreshExpirationInMillis)) // JWT 만료 시간
                 .id(UUID.randomUUID().toString()) // JWT 고유 ID (UUID Random)
-                .claim("role", user.getRole()) // 커스텀 클레임에 사용자의 역할(Role) 추가
+                .claim("role", role) // 커스텀 클레임에 사용자의 역할(Role) 추가
+                .claim(AUTHORITIES_CLAIM, role.authorities()) // 역할 계층이 반영된 권한 비트마스크 추가
+                .claim(EPOCH_CLAIM, tokenEpoch) // 사용자 토큰 세대 추가 (세대가 바뀌면 이전 토큰 무효)
+                .claim(SESSION_CLAIM, sessionId) // 로그인 세션 ID 추가 (null이면 생략)
                 .signWith(secretKey) // 시크릿 키를 사용하여 JWT 토큰에 서명
                 .compact();
     }
 
-    public String createRefreshToken(User user) {
-        // 랜덤 바이트 생성을 위해 SecureRandom 사용
-        SecureRandom secureRandom = new SecureRandom();
-        byte[] randomBytes = new byte[32]; // 256 bits (32 bytes)
-        secureRandom.nextBytes(randomBytes);
+    public RefreshTokenSecret createRefreshToken() {
+        // 조회용 selector(96 bits)와 비밀 값 verifier(256 bits)를 각각 생성
+        byte[] selectorBytes = new byte[12];
+        byte[] verifierBytes = new byte[32];
+        secureRandom.nextBytes(selectorBytes);
+        secureRandom.nextBytes(verifierBytes);
 
         // 생성된 랜덤 바이트를 Base64로 인코딩하여 문자열로 변환
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return new RefreshTokenSecret(encoder.encodeToString(selectorBytes), encoder.encodeToString(verifierBytes));
     }
 
-    public String getUsernameFromToken(String token) {
-        Jws<Claims> claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+    /**
+     * 액세스 토큰을 한 번만 파싱 및 서명 검증하여 토큰 주체 정보를 반환합니다.
+     *
+     * @param token 액세스 토큰
+     * @return 검증된 토큰 주체 정보
+     * @throws JwtException 서명이 올바르지 않거나 만료된 토큰인 경우
+     */
+    public JwtPrincipal verifyAccessToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+        // 만료 시간이 없는 토큰은 허용하지 않음 (만료된 토큰은 파서에서 ExpiredJwtException 발생)
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            throw new JwtException("만료 시간(exp)이 없는 토큰입니다.");
+        }
 
-        return claims.getPayload().getSubject(); // 주제(사용자 이름) 반환
+        String role = claims.get("role", String.class);
+
+        return new JwtPrincipal(
+                claims.getSubject(),
+                role,
+                resolveAuthorities(claims, role),
+                claims.get(EPOCH_CLAIM) instanceof Number epoch ? epoch.longValue() : 0L,
+                claims.getId(),
+                claims.get(SESSION_CLAIM, String.class),
+                expiration.toInstant()
+        );
     }
 
-    public String getRoleFromToken(String token) {
-        Jws<Claims> claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+    public String getUsernameFromToken(String token) {
+        return verifyAccessToken(token).subject(); // 주제(사용자 이름) 반환
+    }
 
-        return claims.getPayload().get("role", String.class); // "role" 이라는 이름의 클레임 값을 문자열로 반환
+    public String getRoleFromToken(String token) {
+        return verifyAccessToken(token).role(); // "role" 이라는 이름의 클레임 값을 문자열로 반환
     }
 
     public boolean isTokenValid(String token) {
         // JWT를 파싱하여 클레임을 가져옴
-        Jws<Claims> claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+        JwtPrincipal principal = verifyAccessToken(token);
 
         // 만료 시간(ex: 2025-01-21 18:30:00)이 현재 시간(ex: 2025-01-21 18:00:00) 이후면 -> true
         // 만료 시간(ex: 2025-01-21 18:00:00)이 현재 시간(ex: 2025-01-21 18:30:00) 이전이면 -> false
-        return claims.getPayload().getExpiration().after(new Date());
+        return !principal.isExpired(Instant.now());
+    }
+
+    /**
+     * 권한 비트마스크 클레임 조회
+     * - 권한 클레임이 없는 (이전 버전에서 발급된) 토큰은 역할 클레임에서 계산
+     */
+    private long resolveAuthorities(Claims claims, String role) {
+        Object authorities = claims.get(AUTHORITIES_CLAIM);
+        if (authorities instanceof Number number) {
+            return number.longValue();
+        }
+        if (role == null) {
+            throw new JwtException("역할(role) 클레임이 없는 토큰입니다.");
+        }
+        return Role.valueOf(role).authorities();
     }
 }
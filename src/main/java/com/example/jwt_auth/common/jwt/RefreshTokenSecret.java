@@ -0,0 +1,47 @@
+package com.example.jwt_auth.common.jwt;
+
+import java.security.MessageDigest;
+
+/**
+ * selector.verifier 형식의 리프레시 토큰
+ * - selector: DB 인덱스 조회용 식별자 (평문 저장)
+ * - verifier: 비밀 값 (SHA-256 해시만 저장하며, 조회된 한 건과 상수 시간 비교)
+ */
+public record RefreshTokenSecret(String selector, String verifier) {
+
+    private static final char SEPARATOR = '.';
+
+    /**
+     * 클라이언트가 제출한 리프레시 토큰 문자열을 selector와 verifier로 분리
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static RefreshTokenSecret parse(String token) {
+        int separator = token == null ? -1 : token.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw new IllegalArgumentException("잘못된 형식의 리프레시 토큰입니다.");
+        }
+        return new RefreshTokenSecret(token.substring(0, separator), token.substring(separator + 1));
+    }
+
+    /**
+     * 클라이언트에 전달할 리프레시 토큰 문자열
+     */
+    public String value() {
+        return selector + SEPARATOR + verifier;
+    }
+
+    /**
+     * DB에 저장할 verifier의 SHA-256 해시 (32 bytes)
+     */
+    public byte[] verifierHash() {
+        return TokenDigest.sha256(verifier);
+    }
+
+    /**
+     * 저장된 verifier 해시와 상수 시간 비교
+     */
+    public boolean matches(byte[] storedVerifierHash) {
+        return MessageDigest.isEqual(verifierHash(), storedVerifierHash);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.dto.TokenResponse;
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.support.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회전(재발급)된 리프레시 토큰의 후속 토큰을 유예 시간 동안 보관하는 프로세스 내 캐시
+ * - Key: 소비된 리프레시 토큰의 SHA-256 다이제스트, Value: 사용자 이름과 이미 발급된 후속 토큰
+ * - 여러 탭에서 같은 리프레시 토큰으로 동시에 재발급을 요청한 경우, 늦게 도착한 요청에 DB 조회 없이 같은 결과를 돌려줍니다.
+ * - 유예 시간(jwt.refresh.grace-period)이 지난 항목은 반환하지 않으며, 최대 크기를 넘으면 캐싱하지 않습니다.
+ */
+@Component
+public class RotatedRefreshTokenCache {
+
+    private final Duration gracePeriod;
+    private final BoundedTtlCache<TokenDigest, Successor> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    public RotatedRefreshTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.gracePeriod = jwtProperties.refresh().gracePeriod();
+        this.entries = new BoundedTtlCache<>(jwtProperties.refresh().graceCacheMaxSize());
+
+        FunctionCounter.builder("jwt.refresh.grace.hits", hits, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("jwt.refresh.grace.size", entries, BoundedTtlCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유예 시간 안에 같은 리프레시 토큰으로 이미 발급된 후속 토큰을 조회
+     *
+     * @param refreshToken 요청에 포함된 (소비된) 리프레시 토큰
+     * @param username     요청한 사용자 이름
+     * @return 이미 발급된 후속 토큰, 없거나 유예 시간이 지났으면 empty
+     */
+    public Optional<TokenResponse> find(String refreshToken, String username) {
+        if (gracePeriod.isZero()) {
+            return Optional.empty();
+        }
+
+        Successor successor = entries.get(TokenDigest.of(refreshToken), Instant.now());
+        if (successor == null || !successor.username().equals(username)) {
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(successor.tokens());
+    }
+
+    /**
+     * 소비된 리프레시 토큰과 그 후속 토큰을 유예 시간 동안 보관
+     * - 최대 크기를 넘으면 보관하지 않으며, 늦게 온 요청은 일반 재발급 경로로 처리됩니다.
+     */
+    public void put(String refreshToken, String username, TokenResponse tokens) {
+        if (gracePeriod.isZero()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        entries.put(TokenDigest.of(refreshToken), new Successor(username, tokens), now.plus(gracePeriod), now);
+    }
+
+    /**
+     * 재발급 트랜잭션이 롤백된 경우 보관한 후속 토큰 제거
+     */
+    public void evict(String refreshToken) {
+        entries.remove(TokenDigest.of(refreshToken));
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Successor(String username, TokenResponse tokens) {}
+}
@@ -0,0 +1,37 @@
+package com.example.jwt_auth.common.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트 (캐시 키 등으로 사용)
+ * - 원본 토큰 대신 고정 크기(32 bytes) 값만 보관합니다.
+ */
+public record TokenDigest(long h0, long h1, long h2, long h3) {
+
+    public static TokenDigest of(String token) {
+        return fromBytes(sha256(token));
+    }
+
+    /**
+     * 이미 계산된 SHA-256 해시 값(32 bytes)으로 다이제스트 생성
+     */
+    public static TokenDigest fromBytes(byte[] sha256) {
+        ByteBuffer buffer = ByteBuffer.wrap(sha256);
+        return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * 토큰 문자열의 SHA-256 해시 값을 반환
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
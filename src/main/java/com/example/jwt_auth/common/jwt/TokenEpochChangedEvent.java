@@ -0,0 +1,10 @@
+package com.example.jwt_auth.common.jwt;
+
+/**
+ * 사용자 토큰 세대(epoch)가 바뀌었음을 알리는 이벤트
+ * - 현재 노드의 변경과 폴링으로 확인한 다른 노드의 변경 모두 발행됩니다.
+ *
+ * @param username 사용자 이름
+ * @param epoch    변경된 토큰 세대
+ */
+public record TokenEpochChangedEvent(String username, long epoch) {}
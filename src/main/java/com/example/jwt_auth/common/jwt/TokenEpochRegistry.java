@@ -0,0 +1,113 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.TokenEpochChange;
+import com.example.jwt_auth.auth.repository.TokenEpochChangeRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 현재 토큰 세대(epoch)를 보관하는 메모리 맵
+ * - 액세스 토큰에 기록된 세대가 현재 세대보다 낮으면 무효 처리합니다. (요청 경로에서는 해시 조회 한 번)
+ * - 세대 변경은 변경 기록 테이블(TokenEpochChange)을 통해 다른 노드에 전파됩니다.
+ * - 액세스 토큰 유효 기간보다 오래된 변경은 이미 모든 이전 토큰이 만료되었으므로 맵에서 제거합니다.
+ * - 새 세대가 반영되면 TokenEpochChangedEvent를 발행합니다. (사용자 정보 캐시 무효화 등)
+ */
+@Component
+public class TokenEpochRegistry {
+
+    private final TokenEpochChangeRepository tokenEpochChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtProperties.Epoch properties;
+    private final Duration accessTokenLifetime;
+
+    /** Key: 사용자 이름, Value: 마지막으로 알려진 세대 변경 */
+    private final ConcurrentHashMap<String, EpochChange> epochs = new ConcurrentHashMap<>();
+
+    /** 마지막 폴링 시각 (다음 폴링은 이 시각 - pollOverlap 이후 변경을 조회) */
+    private volatile Instant watermark;
+
+    public TokenEpochRegistry(
+            TokenEpochChangeRepository tokenEpochChangeRepository,
+            ApplicationEventPublisher eventPublisher,
+            JwtProperties jwtProperties,
+            @Value("${jwt.access-token-expiration}") long accessExpiration
+    ) {
+        this.tokenEpochChangeRepository = tokenEpochChangeRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = jwtProperties.epoch();
+        this.accessTokenLifetime = Duration.ofSeconds(accessExpiration);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        // 아직 유효한 액세스 토큰에 영향을 줄 수 있는 변경만 적재
+        Instant now = Instant.now();
+        load(now.minus(accessTokenLifetime));
+        watermark = now;
+    }
+
+    /**
+     * 액세스 토큰의 세대가 사용자의 현재 세대 이상인지 확인
+     */
+    public boolean isCurrent(JwtPrincipal principal) {
+        EpochChange change = epochs.get(principal.subject());
+        return change == null || principal.epoch() >= change.epoch();
+    }
+
+    /**
+     * 세대 변경을 현재 노드에 즉시 반영 (다른 노드는 폴링으로 반영)
+     */
+    public void apply(String username, long epoch, Instant changedAt) {
+        EpochChange change = new EpochChange(epoch, changedAt);
+        EpochChange applied = epochs.merge(username, change,
+                (current, updated) -> updated.epoch() > current.epoch() ? updated : current);
+
+        // 새 세대가 반영된 경우에만 알림 (폴링 겹침 구간의 중복 반영은 제외)
+        if (applied == change) {
+            eventPublisher.publishEvent(new TokenEpochChangedEvent(username, epoch));
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 세대를 반영하고, 더 이상 필요 없는 항목을 정리
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.epoch.poll-interval:PT5S}",
+            initialDelayString = "${jwt.epoch.poll-interval:PT5S}"
+    )
+    public void poll() {
+        Instant now = Instant.now();
+
+        // 트랜잭션 커밋 순서와 노드 간 시계 차이를 고려하여 겹치는 구간까지 다시 조회 (중복 반영은 무해)
+        load(watermark.minus(properties.pollOverlap()));
+        watermark = now;
+
+        // 액세스 토큰 유효 기간보다 오래된 변경은 제거
+        Instant expiredBefore = now.minus(accessTokenLifetime);
+        epochs.values().removeIf(change -> change.changedAt().isBefore(expiredBefore));
+    }
+
+    /**
+     * 액세스 토큰 유효 기간이 지난 변경 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.epoch.purge-interval:PT10M}")
+    public void purgeExpired() {
+        tokenEpochChangeRepository.deleteChangedBefore(Instant.now().minus(accessTokenLifetime));
+    }
+
+    private void load(Instant since) {
+        for (TokenEpochChange change : tokenEpochChangeRepository.findByChangedAtGreaterThanEqual(since)) {
+            apply(change.getUsername(), change.getEpoch(), change.getChangedAt());
+        }
+    }
+
+    private record EpochChange(long epoch, Instant changedAt) {}
+}
@@ -0,0 +1,97 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.support.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 주체 정보를 보관하는 프로세스 내 캐시
+ * - Key: 토큰의 SHA-256 다이제스트, Value: 검증된 토큰 주체 정보
+ * - 토큰 만료 시간(exp)이 지난 항목은 절대 반환하지 않으며, 만료 시간 순서로 1초마다 정리합니다.
+ * - 최대 크기(jwt.cache.max-size)를 넘지 않으며, 만료 항목을 정리한 뒤에도 공간이 없으면 캐싱하지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+
+    /** 조회 경로는 ConcurrentHashMap 조회 한 번으로 잠금 없이 동작 */
+    private final BoundedTtlCache<TokenDigest, JwtPrincipal> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.enabled = jwtProperties.cache().enabled();
+        this.entries = new BoundedTtlCache<>(jwtProperties.cache().maxSize());
+
+        FunctionCounter.builder("jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", entries, BoundedTtlCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 검증된 토큰 주체 정보를 조회하고, 없으면 verifier로 검증한 뒤 캐시에 저장합니다.
+     *
+     * @param token    액세스 토큰
+     * @param verifier 캐시 미스 시 토큰을 검증할 함수 (검증 실패 시 예외 발생)
+     * @return 검증된 토큰 주체 정보
+     */
+    public JwtPrincipal getOrVerify(String token, Function<String, JwtPrincipal> verifier) {
+        // 캐시를 사용하지 않으면 매번 검증
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        Instant now = Instant.now();
+
+        // 만료된 항목은 반환하지 않고 즉시 제거됨
+        JwtPrincipal cached = entries.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        JwtPrincipal principal = verifier.apply(token);
+        entries.putIfAbsent(key, principal, principal.expiresAt(), now);
+
+        return principal;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 토큰 정리 (만료 시간 순서의 앞쪽만 확인하므로 만료 항목이 없으면 비용이 거의 없음)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void purgeExpired() {
+        if (enabled) {
+            entries.purgeExpired(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.jwt_auth.common.support;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최대 크기와 항목별 만료 시간을 가진 프로세스 내 캐시
+ * - 만료 시간이 지난 항목은 절대 반환하지 않습니다.
+ * - 항목을 만료 시간 순서로도 보관하여, 정리할 때 만료된 앞쪽 항목만 꺼내고 만료되지 않은 항목을 만나면 멈춥니다.
+ *   (가득 찬 캐시가 만료되지 않은 항목으로 차 있어도 삽입 한 번의 정리 비용은 맨 앞 항목 확인 한 번뿐)
+ * - 최대 크기를 넘으면 새 항목을 캐싱하지 않습니다. (기존 항목을 밀어내지 않음)
+ *
+ * <p>동시에 삽입/삭제되는 경우에도 크기 카운터가 최대 크기를 넘지 않도록 삽입 전에 자리를 예약합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    /** 만료 시간 순서 (같은 만료 시간은 삽입 순서) */
+    private final ConcurrentSkipListSet<Entry<K, V>> expiryOrder = new ConcurrentSkipListSet<>(
+            Comparator.<Entry<K, V>, Instant>comparing(Entry::expiresAt).thenComparingLong(Entry::sequence));
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public BoundedTtlCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 만료되지 않은 값 조회 (만료된 항목은 즉시 제거)
+     *
+     * @return 값, 없거나 만료되었으면 null
+     */
+    public V get(K key, Instant now) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            remove(entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 값 저장 (같은 키의 기존 값은 교체)
+     *
+     * @return 저장 여부 (이미 만료되었거나 최대 크기를 넘으면 false)
+     */
+    public boolean put(K key, V value, Instant expiresAt, Instant now) {
+        Entry<K, V> entry = reserve(key, value, expiresAt, now);
+        if (entry == null) {
+            return false;
+        }
+
+        Entry<K, V> previous = entries.put(key, entry);
+        if (previous != null) {
+            // 교체된 항목의 자리 반환
+            size.decrementAndGet();
+            expiryOrder.remove(previous);
+        }
+        return true;
+    }
+
+    /**
+     * 같은 키가 없을 때만 값 저장
+     *
+     * @return 저장 여부 (이미 있거나, 만료되었거나, 최대 크기를 넘으면 false)
+     */
+    public boolean putIfAbsent(K key, V value, Instant expiresAt, Instant now) {
+        Entry<K, V> entry = reserve(key, value, expiresAt, now);
+        if (entry == null) {
+            return false;
+        }
+
+        if (entries.putIfAbsent(key, entry) != null) {
+            // 다른 스레드가 먼저 저장한 경우 예약한 자리 반환
+            size.decrementAndGet();
+            expiryOrder.remove(entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 키에 해당하는 항목 제거
+     *
+     * @return 제거된 값 (만료 여부와 관계없음), 없으면 null
+     */
+    public V remove(K key) {
+        Entry<K, V> removed = entries.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        size.decrementAndGet();
+        expiryOrder.remove(removed);
+        return removed.value();
+    }
+
+    /**
+     * 만료된 항목 정리 (만료 시간 순서의 앞쪽부터 꺼내며, 만료되지 않은 항목을 만나면 멈춤)
+     */
+    public void purgeExpired(Instant now) {
+        for (Entry<K, V> oldest : expiryOrder) {
+            if (!oldest.isExpired(now)) {
+                return;
+            }
+            remove(oldest);
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    private Entry<K, V> reserve(K key, V value, Instant expiresAt, Instant now) {
+        if (!expiresAt.isAfter(now)) {
+            return null;
+        }
+
+        // 만료된 항목을 먼저 비워 자리를 확보 (만료된 항목이 없으면 맨 앞 항목 확인 한 번으로 끝남)
+        purgeExpired(now);
+
+        // 자리를 먼저 예약하고, 최대 크기를 넘으면 캐싱하지 않음
+        if (size.incrementAndGet() > maxSize) {
+            size.decrementAndGet();
+            return null;
+        }
+
+        // 맵에 들어간 항목이 항상 만료 순서에도 있도록 먼저 등록
+        Entry<K, V> entry = new Entry<>(key, value, expiresAt, sequence.incrementAndGet());
+        expiryOrder.add(entry);
+        return entry;
+    }
+
+    private void remove(Entry<K, V> entry) {
+        expiryOrder.remove(entry);
+        if (entries.remove(entry.key(), entry)) {
+            size.decrementAndGet();
+        }
+    }
+
+    private record Entry<K, V>(K key, V value, Instant expiresAt, long sequence) {
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.jwt_auth.common.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 최근 호출의 실패율로 외부 호출을 차단하는 서킷 브레이커
+ * - CLOSED: 최근 호출(링 버퍼)의 실패율이 임계치 이상이면 OPEN으로 전환합니다.
+ * - OPEN: 정해진 시간 동안 호출을 즉시 거절한 뒤 HALF_OPEN으로 전환합니다.
+ * - HALF_OPEN: 제한된 수의 시험 호출만 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN으로 전환합니다.
+ *
+ * <p>외부 API 호출 빈도(로그인 요청 수준)에서는 잠금 비용이 무시할 만하므로 모든 상태 변경을 동기화합니다.
+ *
+ * <p>상태가 바뀔 때마다 세대(generation)가 증가하며, 호출 결과는 허용을 받은 세대에서만 반영됩니다.
+ * CLOSED에서 시작해 HALF_OPEN 전환 뒤에 끝난 호출이 시험 호출로 집계되는 일을 막기 위함입니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    /** 최근 호출 결과 (true = 실패) */
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private Instant openedAt = Instant.EPOCH;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param failureRateThreshold 서킷을 여는 실패율 (%)
+     * @param slidingWindowSize    실패율을 계산할 최근 호출 수
+     * @param minimumCalls         실패율을 계산하기 위한 최소 호출 수
+     * @param openDuration         서킷이 열린 뒤 호출을 거절하는 시간
+     * @param halfOpenCalls        열린 뒤 시험 삼아 허용하는 호출 수
+     */
+    public CircuitBreaker(
+            int failureRateThreshold,
+            int slidingWindowSize,
+            int minimumCalls,
+            Duration openDuration,
+            int halfOpenCalls
+    ) {
+        if (slidingWindowSize <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("서킷 브레이커의 호출 수 설정은 0보다 커야 합니다.");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.openDuration = openDuration;
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인 (허용된 호출은 반드시 Permit의 onSuccess/onFailure/release 중 하나로 결과를 알려야 함)
+     *
+     * @return 허용되면 결과를 알릴 Permit, 거절되면 empty
+     */
+    public synchronized Optional<Permit> tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (Instant.now().isBefore(openedAt.plus(openDuration))) {
+                return Optional.empty();
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return Optional.empty();
+            }
+            halfOpenPermits--;
+        }
+        return Optional.of(new Permit(generation));
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private synchronized void onSuccess(Permit permit) {
+        if (!complete(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    private synchronized void onFailure(Permit permit) {
+        if (!complete(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private synchronized void release(Permit permit) {
+        if (complete(permit) && state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * 허용을 받은 세대의 첫 결과만 반영 (다른 세대에서 끝난 호출이나 중복 통지는 무시)
+     */
+    private boolean complete(Permit permit) {
+        if (permit.completed) {
+            return false;
+        }
+        permit.completed = true;
+        return permit.generation == generation;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            // 가장 오래된 결과를 밀어냄
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        generation++;
+        switch (newState) {
+            case OPEN -> openedAt = Instant.now();
+            case HALF_OPEN -> {
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                nextIndex = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+
+    /**
+     * 한 번의 호출 허용 (발급된 세대를 기억)
+     */
+    public final class Permit {
+
+        private final long generation;
+        /** CircuitBreaker 잠금 안에서만 읽고 씀 */
+        private boolean completed;
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+
+        public void onSuccess() {
+            CircuitBreaker.this.onSuccess(this);
+        }
+
+        public void onFailure() {
+            CircuitBreaker.this.onFailure(this);
+        }
+
+        /**
+         * 결과 없이 취소된 호출의 허용 반환 (HALF_OPEN에서 받은 허용이면 시험 호출 수가 줄어들지 않도록 되돌림)
+         */
+        public void release() {
+            CircuitBreaker.this.release(this);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.jwt_auth.common.support;
+
+import com.example.jwt_auth.common.config.JdbcExecutorProperties;
+import com.example.jwt_auth.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 논블로킹 처리 흐름(WebClient 등) 중간의 블로킹 DB 작업을 실행하는 전용 스레드 풀
+ * - 외부 API 응답을 기다리는 동안에는 어떤 스레드도 점유하지 않고, DB 작업만 이 풀의 스레드에서 실행합니다.
+ * - 동시에 실행되는 DB 작업 수를 스레드 수로 제한하며, 대기열이 가득 차면 즉시 ServiceOverloadedException(503)으로 완료합니다.
+ */
+@Component
+public class JdbcExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public JdbcExecutor(JdbcExecutorProperties properties, MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new JdbcThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.rejectedCounter = Counter.builder("jdbc.executor.rejected")
+                .register(meterRegistry);
+        Gauge.builder("jdbc.executor.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("jdbc.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB 작업을 전용 스레드 풀에서 실행
+     *
+     * @return 작업 결과, 대기열이 가득 차면 ServiceOverloadedException으로 완료된 future
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(
+                    new ServiceOverloadedException("요청이 많아 잠시 후 다시 시도해 주세요."));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class JdbcThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jdbc-executor-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jwt_auth.common.support;
+
+import com.example.jwt_auth.auth.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DB 임대(lease) 기반으로 여러 노드 중 한 노드만 배치 작업을 실행하도록 조정
+ * - 임대 행이 없으면 먼저 생성하고, 이후에는 조건부 UPDATE의 갱신 행 수로 획득 여부를 판단합니다.
+ * - 작업이 임대 시간을 넘기면 다른 노드가 임대를 가져갈 수 있으므로, 작업은 반환된 만료 시간 전에 끝내야 합니다.
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private final JobLeaseRepository jobLeaseRepository;
+
+    /** 현재 노드 식별자 (호스트 이름 + 프로세스별 임의 값) */
+    private final String owner;
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.owner = hostName() + "-" + UUID.randomUUID();
+    }
+
+    /**
+     * 작업 임대 획득 시도
+     *
+     * @param name     작업 이름
+     * @param duration 임대 기간
+     * @return 획득한 경우 임대 만료 시간, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<Instant> tryAcquire(String name, Duration duration) {
+        Instant now = Instant.now();
+        Instant lockedUntil = now.plus(duration);
+
+        if (jobLeaseRepository.acquire(name, owner, now, lockedUntil) == 1) {
+            return Optional.of(lockedUntil);
+        }
+
+        // 임대 행이 아직 없으면 생성 (동시에 생성한 노드가 있으면 그 노드가 획득)
+        if (!jobLeaseRepository.existsById(name)) {
+            try {
+                jobLeaseRepository.create(name, owner, lockedUntil);
+                return Optional.of(lockedUntil);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("작업 임대 행을 다른 노드가 먼저 생성: {}", name);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 보유한 작업 임대 반납
+     */
+    public void release(String name) {
+        jobLeaseRepository.release(name, owner, Instant.now());
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- refresh_token_history.token(VARCHAR(255), 원본 토큰) -> token_digest(BINARY(32), verifier의 SHA-256 해시) 전환
+-- ddl-auto: create 환경에서는 필요 없으며, 기존 데이터를 유지하는 환경(MySQL)에서 애플리케이션 배포 전에 한 번 실행합니다.
+
+-- 1. 다이제스트 컬럼 추가
+ALTER TABLE refresh_token_history ADD COLUMN token_digest BINARY(32) NULL;
+
+-- 2. "selector.verifier" 형식의 원본 토큰은 verifier 부분의 SHA-256 해시로 변환 (RefreshTokenSecret.verifierHash()와 동일)
+UPDATE refresh_token_history
+SET token_digest = UNHEX(SHA2(SUBSTRING_INDEX(token, '.', -1), 256))
+WHERE token LIKE '%.%';
+
+-- 3. 로그인 시 selector만 기록된 행은 verifier를 알 수 없어 재사용 탐지에 쓸 수 없으므로 삭제
+DELETE FROM refresh_token_history WHERE token_digest IS NULL;
+
+-- 4. 원본 토큰 컬럼(및 고유 인덱스) 제거 후 다이제스트에 고유 인덱스 생성
+ALTER TABLE refresh_token_history
+    MODIFY token_digest BINARY(32) NOT NULL,
+    DROP COLUMN token,
+    ADD CONSTRAINT uk_refresh_token_history_token_digest UNIQUE (token_digest);
+
+-- 인덱스 크기 비교 (전환 전후 각각 실행)
+-- 원본 토큰(60자, VARCHAR 길이 바이트 포함 약 61 bytes) 대비 다이제스트는 고정 32 bytes이므로 인덱스 항목이 약 35~45% 작아집니다.
+-- ANALYZE TABLE refresh_token_history;
+-- SELECT index_name, ROUND(stat_value * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+-- FROM mysql.innodb_index_stats
+-- WHERE table_name = 'refresh_token_history' AND stat_name = 'size';
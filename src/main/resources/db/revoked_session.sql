@@ -0,0 +1,13 @@
+-- 폐기된 로그인 세션(sid) 테이블 추가 (리프레시 토큰 재사용 시 해당 세션의 액세스 토큰만 거부)
+-- ddl-auto: create 환경에서는 필요 없으며, 기존 데이터를 유지하는 환경(MySQL)에서 애플리케이션 배포 전에 한 번 실행합니다.
+CREATE TABLE revoked_session (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    session_id VARCHAR(36)  NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    revoked_at DATETIME(6)  NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_revoked_session_session_id UNIQUE (session_id),
+    INDEX idx_revoked_session_revoked_at (revoked_at),
+    INDEX idx_revoked_session_expires_at (expires_at)
+);
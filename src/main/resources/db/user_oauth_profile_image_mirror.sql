@@ -0,0 +1,6 @@
+-- user_oauth 프로필 이미지 미러링 컬럼 추가
+-- ddl-auto: create 환경에서는 필요 없으며, 기존 데이터를 유지하는 환경(MySQL)에서 애플리케이션 배포 전에 한 번 실행합니다.
+-- 기존 행은 원본 URL이 비어 있으므로 다음 로그인 시 이미지를 한 번 내려받아 서비스 URL로 바꿉니다.
+ALTER TABLE user_oauth
+    ADD COLUMN profile_image_source_url VARCHAR(255) NULL,
+    ADD COLUMN profile_image_etag VARCHAR(255) NULL;
@@ -0,0 +1,14 @@
+-- user_oauth (provider, provider_id) 고유 인덱스 추가
+-- ddl-auto: create 환경에서는 필요 없으며, 기존 데이터를 유지하는 환경(MySQL)에서 애플리케이션 배포 전에 한 번 실행합니다.
+
+-- 1. 동시 로그인으로 중복 연동된 행이 있으면 가장 먼저 생성된(ID가 가장 작은) 행만 남기고 삭제
+DELETE duplicate
+FROM user_oauth duplicate
+JOIN user_oauth original
+    ON original.provider = duplicate.provider
+    AND original.provider_id = duplicate.provider_id
+    AND original.id < duplicate.id;
+
+-- 2. 고유 인덱스 생성 (소셜 로그인 시 제공자 ID로 사용자를 찾는 조회에 사용)
+ALTER TABLE user_oauth
+    ADD CONSTRAINT uk_user_oauth_provider_provider_id UNIQUE (provider, provider_id);
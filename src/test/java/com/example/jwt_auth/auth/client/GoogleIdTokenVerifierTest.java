@@ -0,0 +1,239 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.dto.OAuthUserInfo;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 JWKS/토큰 서버를 대신 띄워 Google ID 토큰 검증을 확인합니다.
+ */
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+    private static final String ISSUER = "https://accounts.google.com";
+
+    private HttpServer server;
+    private String baseUrl;
+
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicInteger userInfoRequests = new AtomicInteger();
+
+    private volatile String jwks;
+    private volatile String tokenResponse;
+
+    private final KeyPair signingKey = Jwts.SIG.RS256.keyPair().build();
+
+    private final List<ProviderWebClients> webClients = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            respond(exchange, 200, jwks);
+        });
+        server.createContext("/token", exchange -> respond(exchange, 200, tokenResponse));
+        server.createContext("/userinfo", exchange -> {
+            userInfoRequests.incrementAndGet();
+            respond(exchange, 500, "{}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        jwks = jwks(jwk("key-1", signingKey));
+    }
+
+    @AfterEach
+    void tearDown() {
+        webClients.forEach(ProviderWebClients::shutdown);
+        server.stop(0);
+    }
+
+    @Test
+    void authenticateUsesIdTokenWithoutCallingUserInfo() {
+        tokenResponse = "{\"access_token\":\"opaque\",\"expires_in\":3599,\"id_token\":\""
+                + idToken("key-1", signingKey, CLIENT_ID, true) + "\"}";
+        OAuthProperties properties = properties(Duration.ofSeconds(30));
+        ProviderWebClients providerWebClients = webClients(properties);
+        OAuthProviderClient client = new OAuthProviderClient(List.of(new GoogleOAuthAdapter(
+                providerWebClients, properties, new GoogleIdTokenVerifier(providerWebClients, properties))));
+
+        OAuthUserInfo userInfo = client.authenticate(OAuthProvider.GOOGLE, "code").block();
+
+        assertThat(userInfo).isEqualTo(new OAuthUserInfo(
+                "1234567890", "user@example.com", "테스트 사용자", "https://example.com/photo.jpg"));
+        assertThat(userInfoRequests).hasValue(0);
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void cachedKeysAreReusedAcrossVerifications() {
+        GoogleIdTokenVerifier verifier = verifier(Duration.ofSeconds(30));
+
+        verifier.verify(idToken("key-1", signingKey, CLIENT_ID, true)).block();
+        verifier.verify(idToken("key-1", signingKey, CLIENT_ID, true)).block();
+
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void unknownKeyIdRefetchesJwksAfterKeyRotation() {
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+        verifier.verify(idToken("key-1", signingKey, CLIENT_ID, true)).block();
+
+        KeyPair rotatedKey = Jwts.SIG.RS256.keyPair().build();
+        jwks = jwks(jwk("key-1", signingKey), jwk("key-2", rotatedKey));
+
+        OAuthUserInfo userInfo = verifier.verify(idToken("key-2", rotatedKey, CLIENT_ID, true)).block();
+
+        assertThat(userInfo.id()).isEqualTo("1234567890");
+        assertThat(jwksRequests).hasValue(2);
+    }
+
+    @Test
+    void unknownKeyIdDoesNotRefetchWithinMinimumInterval() {
+        GoogleIdTokenVerifier verifier = verifier(Duration.ofMinutes(1));
+        verifier.verify(idToken("key-1", signingKey, CLIENT_ID, true)).block();
+
+        KeyPair otherKey = Jwts.SIG.RS256.keyPair().build();
+        assertThatThrownBy(() -> verifier.verify(idToken("unknown", otherKey, CLIENT_ID, true)).block())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown");
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    void rejectsTokenSignedWithDifferentKey() {
+        KeyPair attackerKey = Jwts.SIG.RS256.keyPair().build();
+
+        assertThatThrownBy(() -> verifier(Duration.ofSeconds(30))
+                .verify(idToken("key-1", attackerKey, CLIENT_ID, true)).block())
+                .hasMessage("Invalid Google ID token");
+    }
+
+    @Test
+    void rejectsTokenIssuedForAnotherClient() {
+        assertThatThrownBy(() -> verifier(Duration.ofSeconds(30))
+                .verify(idToken("key-1", signingKey, "another-client-id", true)).block())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsUnverifiedEmail() {
+        assertThatThrownBy(() -> verifier(Duration.ofSeconds(30))
+                .verify(idToken("key-1", signingKey, CLIENT_ID, false)).block())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private GoogleIdTokenVerifier verifier(Duration minRefreshInterval) {
+        OAuthProperties properties = properties(minRefreshInterval);
+        return new GoogleIdTokenVerifier(webClients(properties), properties);
+    }
+
+    private ProviderWebClients webClients(OAuthProperties properties) {
+        ProviderWebClients providerWebClients =
+                new ProviderWebClients(WebClient.builder(), properties, new SimpleMeterRegistry());
+        webClients.add(providerWebClients);
+        return providerWebClients;
+    }
+
+    private OAuthProperties properties(Duration minRefreshInterval) {
+        return new OAuthProperties(
+                new OAuthProperties.Google(
+                        CLIENT_ID,
+                        "test-client-secret",
+                        "http://localhost/oauth/google",
+                        true,
+                        baseUrl + "/token",
+                        baseUrl + "/userinfo",
+                        baseUrl + "/certs",
+                        List.of(ISSUER),
+                        Duration.ofHours(1),
+                        minRefreshInterval,
+                        new OAuthProperties.Http(
+                                10, 10,
+                                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(5),
+                                Duration.ofSeconds(30), Duration.ofMinutes(5),
+                                0, Duration.ofMillis(10), DataSize.ofKilobytes(64),
+                                new OAuthProperties.CircuitBreaker(50, 20, 10, Duration.ofSeconds(30), 3)
+                        )
+                ),
+                null,
+                null
+        );
+    }
+
+    private static String idToken(String keyId, KeyPair keyPair, String audience, boolean emailVerified) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(ISSUER)
+                .audience().add(audience).and()
+                .subject("1234567890")
+                .claim("email", "user@example.com")
+                .claim("email_verified", emailVerified)
+                .claim("name", "테스트 사용자")
+                .claim("picture", "https://example.com/photo.jpg")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(String keyId, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return "{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"" + keyId + "\""
+                + ",\"n\":\"" + base64Url(publicKey.getModulus()) + "\""
+                + ",\"e\":\"" + base64Url(publicKey.getPublicExponent()) + "\"}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        // 부호 비트용 선행 0 바이트 제거 (JWK는 부호 없는 빅엔디언 표현)
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.jwt_auth.auth.client;
+
+import com.example.jwt_auth.auth.client.ProfileImageDownloader.MirroredImage;
+import com.example.jwt_auth.common.config.ImageUploadProperties;
+import com.example.jwt_auth.common.config.ProfileImageMirrorProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 이미지 서버를 대신 띄워 프로필 이미지 미러링(다운로드/저장/변경 확인)을 확인합니다.
+ */
+class ProfileImageDownloaderTest {
+
+    private static final String BASE_URL = "http://localhost:8080/images/profile";
+
+    @TempDir
+    Path directory;
+
+    private HttpServer server;
+    private String imageUrl;
+
+    private final AtomicInteger imageRequests = new AtomicInteger();
+    private final AtomicReference<String> lastIfNoneMatch = new AtomicReference<>();
+
+    private volatile byte[] image = png("first-image");
+    private volatile String etag = "\"v1\"";
+    private volatile String contentType = "image/png";
+    private volatile String redirectLocation;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/photo", this::serveImage);
+        server.createContext("/redirect", this::serveRedirect);
+        server.start();
+        imageUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/photo";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void storesImageUnderContentHashAndReturnsServiceUrl() throws IOException {
+        MirroredImage mirrored = downloader(DataSize.ofKilobytes(64)).download(imageUrl, null).orElseThrow();
+
+        assertThat(mirrored.url()).startsWith(BASE_URL + "/").endsWith(".png");
+        assertThat(mirrored.etag()).isEqualTo("\"v1\"");
+        Path stored = directory.resolve(mirrored.url().substring(BASE_URL.length() + 1));
+        assertThat(Files.readAllBytes(stored)).isEqualTo(image);
+        assertThat(lastIfNoneMatch.get()).isNull();
+    }
+
+    @Test
+    void unchangedImageIsNotDownloadedAgain() {
+        ProfileImageDownloader downloader = downloader(DataSize.ofKilobytes(64));
+        MirroredImage first = downloader.download(imageUrl, null).orElseThrow();
+
+        Optional<MirroredImage> second = downloader.download(imageUrl, first.etag());
+
+        assertThat(second).isEmpty();
+        assertThat(lastIfNoneMatch.get()).isEqualTo("\"v1\"");
+        assertThat(imageRequests).hasValue(2);
+    }
+
+    @Test
+    void changedImageIsStoredUnderNewName() {
+        ProfileImageDownloader downloader = downloader(DataSize.ofKilobytes(64));
+        MirroredImage first = downloader.download(imageUrl, null).orElseThrow();
+
+        image = png("second-image");
+        etag = "\"v2\"";
+        MirroredImage second = downloader.download(imageUrl, first.etag()).orElseThrow();
+
+        assertThat(second.url()).isNotEqualTo(first.url());
+        assertThat(second.etag()).isEqualTo("\"v2\"");
+        assertThat(directory.resolve(second.url().substring(BASE_URL.length() + 1))).exists();
+    }
+
+    @Test
+    void sameContentWithoutEtagMapsToSameFile() {
+        etag = null;
+        ProfileImageDownloader downloader = downloader(DataSize.ofKilobytes(64));
+
+        MirroredImage first = downloader.download(imageUrl, null).orElseThrow();
+        MirroredImage second = downloader.download(imageUrl, null).orElseThrow();
+
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(second.etag()).isNull();
+    }
+
+    @Test
+    void rejectsImageLargerThanLimit() {
+        image = png(new String(new byte[2048], StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> downloader(DataSize.ofKilobytes(1)).download(imageUrl, null));
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void rejectsNonImageContent() {
+        contentType = "text/html";
+
+        assertThatThrownBy(() -> downloader(DataSize.ofKilobytes(64)).download(imageUrl, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void rejectsNonHttpUrl() {
+        assertThatThrownBy(() -> downloader(DataSize.ofKilobytes(64)).download("file:///etc/passwd", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(imageRequests).hasValue(0);
+    }
+
+    @Test
+    void rejectsContentWhoseSignatureDoesNotMatchContentType() {
+        image = "<svg onload=alert(1)>".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> downloader(DataSize.ofKilobytes(64)).download(imageUrl, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void rejectsSchemeNotAllowed() {
+        ProfileImageDownloader httpsOnly = downloader(DataSize.ofKilobytes(64), List.of("https"), List.of("127.0.0.1"));
+
+        assertThatThrownBy(() -> httpsOnly.download(imageUrl, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(imageRequests).hasValue(0);
+    }
+
+    @Test
+    void rejectsHostNotAllowed() {
+        ProfileImageDownloader cdnOnly = downloader(DataSize.ofKilobytes(64), List.of("http"), List.of(".googleusercontent.com"));
+
+        assertThatThrownBy(() -> cdnOnly.download(imageUrl, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(imageRequests).hasValue(0);
+    }
+
+    @Test
+    void followsRedirectToAllowedHost() {
+        redirectLocation = "/photo";
+
+        MirroredImage mirrored = downloader(DataSize.ofKilobytes(64)).download(redirectUrl(), null).orElseThrow();
+
+        assertThat(mirrored.url()).endsWith(".png");
+        assertThat(imageRequests).hasValue(1);
+    }
+
+    @Test
+    void rejectsRedirectToHostNotAllowed() {
+        // 허용된 호스트(127.0.0.1)에서 허용되지 않은 호스트(localhost)로 리다이렉트
+        redirectLocation = "http://localhost:" + server.getAddress().getPort() + "/photo";
+
+        assertThatThrownBy(() -> downloader(DataSize.ofKilobytes(64)).download(redirectUrl(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(imageRequests).hasValue(0);
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void stopsFollowingRedirectLoop() {
+        redirectLocation = "/redirect";
+
+        assertThatThrownBy(() -> downloader(DataSize.ofKilobytes(64)).download(redirectUrl(), null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(imageRequests).hasValue(0);
+    }
+
+    private String redirectUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/redirect";
+    }
+
+    private ProfileImageDownloader downloader(DataSize maxSize) {
+        // 로컬 서버는 https가 아니므로 http와 127.0.0.1을 허용
+        return downloader(maxSize, List.of("http"), List.of("127.0.0.1"));
+    }
+
+    private ProfileImageDownloader downloader(DataSize maxSize, List<String> allowedSchemes, List<String> allowedHosts) {
+        ProfileImageMirrorProperties properties = new ProfileImageMirrorProperties(
+                true, "profile", 1, 10, maxSize, Duration.ofSeconds(5), allowedSchemes, allowedHosts, 3);
+        ImageUploadProperties imageUploadProperties = new ImageUploadProperties(Map.of(
+                "profile", new ImageUploadProperties.Target(directory.toString(), BASE_URL)));
+        return new ProfileImageDownloader(WebClient.builder(), properties, imageUploadProperties);
+    }
+
+    private void serveImage(HttpExchange exchange) throws IOException {
+        imageRequests.incrementAndGet();
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        lastIfNoneMatch.set(ifNoneMatch);
+
+        if (etag != null && etag.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = image;
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if (etag != null) {
+            exchange.getResponseHeaders().set("ETag", etag);
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private void serveRedirect(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Location", redirectLocation);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    /** PNG 파일 시그니처 뒤에 내용을 붙인 이미지 */
+    static byte[] png(String content) {
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        byte[] image = new byte[signature.length + body.length];
+        System.arraycopy(signature, 0, image, 0, signature.length);
+        System.arraycopy(body, 0, image, signature.length, body.length);
+        return image;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jwt_auth.auth.entity.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionTest {
+
+    @Test
+    void eachPermissionUsesItsOrdinalBit() {
+        for (Permission permission : Permission.values()) {
+            assertThat(permission.mask()).isEqualTo(1L << permission.ordinal());
+        }
+    }
+
+    @Test
+    void permissionsFitInReservedLowerBits() {
+        // 비트 32~63은 Role이 사용
+        assertThat(Permission.values()).hasSizeLessThanOrEqualTo(32);
+    }
+
+    @Test
+    void maskOfCombinesPermissions() {
+        assertThat(Permission.maskOf()).isZero();
+        assertThat(Permission.maskOf(Permission.POST_READ, Permission.POST_DELETE)).isEqualTo(0b101L);
+        assertThat(Permission.maskOf(Permission.POST_READ, Permission.POST_READ)).isEqualTo(Permission.POST_READ.mask());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.jwt_auth.auth.entity.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleTest {
+
+    @Test
+    void roleBitsDoNotOverlapPermissionBits() {
+        for (Role role : Role.values()) {
+            assertThat(role.roleMask()).isEqualTo(1L << (32 + role.ordinal()));
+            assertThat(role.roleMask() & 0xFFFF_FFFFL).isZero();
+        }
+    }
+
+    @Test
+    void roleHasItsOwnBitAndPermissions() {
+        assertThat(Role.USER.authorities())
+                .isEqualTo(Role.USER.roleMask() | Permission.maskOf(Permission.POST_READ, Permission.POST_WRITE));
+    }
+
+    @Test
+    void childRoleInheritsParentRoleBitAndPermissions() {
+        long expected = Role.ADMIN.roleMask()
+                | Role.USER.authorities()
+                | Permission.maskOf(Permission.POST_DELETE, Permission.USER_MANAGE);
+
+        assertThat(Role.ADMIN.authorities()).isEqualTo(expected);
+    }
+
+    @Test
+    void includesFollowsHierarchyInOneDirection() {
+        assertThat(Role.ADMIN.includes(Role.USER)).isTrue();
+        assertThat(Role.ADMIN.includes(Role.ADMIN)).isTrue();
+        assertThat(Role.USER.includes(Role.USER)).isTrue();
+        assertThat(Role.USER.includes(Role.ADMIN)).isFalse();
+    }
+}
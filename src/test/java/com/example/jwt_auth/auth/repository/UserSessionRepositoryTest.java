@@ -0,0 +1,102 @@
+package com.example.jwt_auth.auth.repository;
+
+import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.UserSession;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 회전/삭제 쿼리의 갱신 건수 확인 (내장 H2)
+ */
+@DataJpaTest
+class UserSessionRepositoryTest {
+
+    private static final byte[] VERIFIER_HASH = new byte[32];
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .username("user")
+                .nickname("user")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    void secondRotateWithStaleSelectorUpdatesNothing() {
+        UserSession session = session("selector-0", Instant.now().plus(Duration.ofDays(7)));
+        Instant now = Instant.now();
+        Instant expiryDate = now.plus(Duration.ofDays(7));
+
+        int first = userSessionRepository.rotate(session.getId(), "selector-0", "selector-1", VERIFIER_HASH, now, expiryDate);
+        // 같은 리프레시 토큰으로 들어온 두 번째 요청
+        int second = userSessionRepository.rotate(session.getId(), "selector-0", "selector-2", VERIFIER_HASH, now, expiryDate);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        entityManager.clear();
+        assertThat(userSessionRepository.findById(session.getId()))
+                .hasValueSatisfying(rotated -> assertThat(rotated.getSelector()).isEqualTo("selector-1"));
+    }
+
+    @Test
+    void rotatedSelectorCanBeRotatedAgain() {
+        UserSession session = session("selector-0", Instant.now().plus(Duration.ofDays(7)));
+        Instant now = Instant.now();
+        Instant expiryDate = now.plus(Duration.ofDays(7));
+
+        userSessionRepository.rotate(session.getId(), "selector-0", "selector-1", VERIFIER_HASH, now, expiryDate);
+
+        assertThat(userSessionRepository.rotate(session.getId(), "selector-1", "selector-2", VERIFIER_HASH, now, expiryDate))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void expiredSessionIsNotRotated() {
+        UserSession session = session("selector-0", Instant.now().minusSeconds(1));
+        Instant now = Instant.now();
+
+        assertThat(userSessionRepository.rotate(
+                session.getId(), "selector-0", "selector-1", VERIFIER_HASH, now, now.plus(Duration.ofDays(7))))
+                .isZero();
+    }
+
+    @Test
+    void sessionOfOtherUserIsNotDeleted() {
+        UserSession session = session("selector-0", Instant.now().plus(Duration.ofDays(7)));
+
+        assertThat(userSessionRepository.deleteByIdAndUserId(session.getId(), user.getId() + 1)).isZero();
+        assertThat(userSessionRepository.deleteByIdAndUserId(session.getId(), user.getId())).isEqualTo(1);
+    }
+
+    private UserSession session(String selector, Instant expiryDate) {
+        Instant createdAt = Instant.now().minus(Duration.ofHours(1));
+        return entityManager.persistAndFlush(UserSession.builder()
+                .id(UUID.randomUUID().toString())
+                .user(user)
+                .selector(selector)
+                .verifierHash(VERIFIER_HASH)
+                .createdAt(createdAt)
+                .lastUsedAt(createdAt)
+                .expiryDate(expiryDate)
+                .build());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.dto.TokenResponse;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.common.config.OAuthLoginProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuthLoginCoalescerTest {
+
+    private static final TokenResponse TOKENS = new TokenResponse("access", "refresh");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger logins = new AtomicInteger();
+
+    @Test
+    void duplicateRequestsWhileInFlightShareOneLogin() {
+        OAuthLoginCoalescer coalescer = coalescer(Duration.ofSeconds(10));
+        CompletableFuture<TokenResponse> pending = new CompletableFuture<>();
+
+        CompletableFuture<TokenResponse> first = coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(pending));
+        CompletableFuture<TokenResponse> second = coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(pending));
+        assertThat(second).isNotDone();
+
+        pending.complete(TOKENS);
+
+        assertThat(first).isCompletedWithValue(TOKENS);
+        assertThat(second).isCompletedWithValue(TOKENS);
+        assertThat(logins).hasValue(1);
+        assertThat(count("joined")).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledWaiterDoesNotCancelSharedLogin() {
+        OAuthLoginCoalescer coalescer = coalescer(Duration.ofSeconds(10));
+        CompletableFuture<TokenResponse> pending = new CompletableFuture<>();
+
+        CompletableFuture<TokenResponse> first = coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(pending));
+        CompletableFuture<TokenResponse> second = coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(pending));
+        first.cancel(true);
+        pending.complete(TOKENS);
+
+        assertThat(second).isCompletedWithValue(TOKENS);
+    }
+
+    @Test
+    void completedResultIsReturnedToLateRetryWithinTtl() {
+        OAuthLoginCoalescer coalescer = coalescer(Duration.ofSeconds(10));
+
+        coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(CompletableFuture.completedFuture(TOKENS)));
+        CompletableFuture<TokenResponse> retry = coalescer.login(
+                OAuthProvider.GOOGLE, "code", () -> start(CompletableFuture.completedFuture(TOKENS)));
+
+        assertThat(retry).isCompletedWithValue(TOKENS);
+        assertThat(logins).hasValue(1);
+        assertThat(count("cached")).isEqualTo(1);
+    }
+
+    @Test
+    void completedResultIsNotReturnedAfterTtl() throws InterruptedException {
+        OAuthLoginCoalescer coalescer = coalescer(Duration.ofMillis(50));
+
+        coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(CompletableFuture.completedFuture(TOKENS)));
+        Thread.sleep(100);
+        coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(CompletableFuture.completedFuture(TOKENS)));
+
+        assertThat(logins).hasValue(2);
+    }
+
+    @Test
+    void failedLoginIsNotCached() {
+        OAuthLoginCoalescer coalescer = coalescer(Duration.ofSeconds(10));
+
+        CompletableFuture<TokenResponse> failed = coalescer.login(OAuthProvider.GOOGLE, "code",
+                () -> start(CompletableFuture.failedFuture(new IllegalStateException("provider error"))));
+        CompletableFuture<TokenResponse> retry = coalescer.login(
+                OAuthProvider.GOOGLE, "code", () -> start(CompletableFuture.completedFuture(TOKENS)));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retry).isCompletedWithValue(TOKENS);
+        assertThat(logins).hasValue(2);
+    }
+
+    @Test
+    void sameCodeOfDifferentProvidersIsNotCoalesced() {
+        OAuthLoginCoalescer coalescer = coalescer(Duration.ofSeconds(10));
+        CompletableFuture<TokenResponse> pending = new CompletableFuture<>();
+
+        coalescer.login(OAuthProvider.GOOGLE, "code", () -> start(pending));
+        coalescer.login(OAuthProvider.KAKAO, "code", () -> start(pending));
+
+        assertThat(logins).hasValue(2);
+    }
+
+    private CompletableFuture<TokenResponse> start(CompletableFuture<TokenResponse> result) {
+        logins.incrementAndGet();
+        return result;
+    }
+
+    private OAuthLoginCoalescer coalescer(Duration resultTtl) {
+        return new OAuthLoginCoalescer(new OAuthLoginProperties(resultTtl, 100), meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("oauth.login.coalesced").tag("result", result).functionCounter().count();
+    }
+}
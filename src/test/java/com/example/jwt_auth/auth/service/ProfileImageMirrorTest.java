@@ -0,0 +1,254 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.client.ProfileImageDownloader;
+import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.UserOAuth;
+import com.example.jwt_auth.auth.entity.enums.OAuthProvider;
+import com.example.jwt_auth.auth.repository.UserOAuthRepository;
+import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.common.config.ImageUploadProperties;
+import com.example.jwt_auth.common.config.ProfileImageMirrorProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 이미지 서버를 대신 띄워 프로필 이미지 미러링 결과가 UserOAuth/User에 반영되는 조건을 확인합니다.
+ */
+class ProfileImageMirrorTest {
+
+    private static final String BASE_URL = "http://localhost:8080/images/profile";
+    private static final String PREVIOUS_FILE_NAME = "a".repeat(64) + ".png";
+    private static final String PREVIOUS_URL = BASE_URL + "/" + PREVIOUS_FILE_NAME;
+
+    @TempDir
+    Path directory;
+
+    private HttpServer server;
+    private String imageUrl;
+
+    private final AtomicReference<String> lastIfNoneMatch = new AtomicReference<>();
+    private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+    private final UserOAuthRepository userOAuthRepository = mock(UserOAuthRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/photo", this::serveImage);
+        server.start();
+        imageUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/photo";
+    }
+
+    @AfterEach
+    void tearDown() {
+        responseGate.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void unchangedImageIsSkipped() {
+        UserOAuth userOAuth = userOAuth(PREVIOUS_URL, imageUrl, "\"v1\"");
+        User user = user(PREVIOUS_URL);
+        ProfileImageMirror mirror = mirror(1, 10);
+
+        mirror.mirror(OAuthProvider.GOOGLE, "google-1", imageUrl);
+
+        assertThat(lastIfNoneMatch.get()).isEqualTo("\"v1\"");
+        assertThat(count("unchanged")).isEqualTo(1);
+        assertThat(userOAuth.getProfileImageUrl()).isEqualTo(PREVIOUS_URL);
+        assertThat(user.getProfileImageUrl()).isEqualTo(PREVIOUS_URL);
+        verify(userOAuthRepository, never()).findById(any());
+    }
+
+    @Test
+    void changedSourceUrlIsDownloadedWithoutEtagAndReplacesMirroredImage() {
+        UserOAuth userOAuth = userOAuth(PREVIOUS_URL, "https://lh3.googleusercontent.com/old", "\"v1\"");
+        User user = user(PREVIOUS_URL);
+
+        mirror(1, 10).mirror(OAuthProvider.GOOGLE, "google-1", imageUrl);
+
+        assertThat(lastIfNoneMatch.get()).isNull();
+        assertThat(count("stored")).isEqualTo(1);
+        assertThat(userOAuth.getProfileImageUrl()).startsWith(BASE_URL + "/").isNotEqualTo(PREVIOUS_URL);
+        assertThat(userOAuth.getProfileImageSourceUrl()).isEqualTo(imageUrl);
+        assertThat(userOAuth.getProfileImageEtag()).isEqualTo("\"v1\"");
+        assertThat(user.getProfileImageUrl()).isEqualTo(userOAuth.getProfileImageUrl());
+    }
+
+    @Test
+    void imageSetByUserIsKept() {
+        String custom = BASE_URL + "/custom.png";
+        UserOAuth userOAuth = userOAuth(PREVIOUS_URL, "https://lh3.googleusercontent.com/old", "\"v1\"");
+        User user = user(custom);
+
+        mirror(1, 10).mirror(OAuthProvider.GOOGLE, "google-1", imageUrl);
+
+        assertThat(userOAuth.getProfileImageUrl()).isNotEqualTo(PREVIOUS_URL);
+        assertThat(user.getProfileImageUrl()).isEqualTo(custom);
+    }
+
+    @Test
+    void previousMirroredFileIsDeletedWhenNoLongerReferenced() throws IOException {
+        Path previousFile = previousFile(Instant.now().minus(Duration.ofMinutes(5)));
+        userOAuth(PREVIOUS_URL, "https://lh3.googleusercontent.com/old", "\"v1\"");
+        user(PREVIOUS_URL);
+
+        mirror(1, 10).mirror(OAuthProvider.GOOGLE, "google-1", imageUrl);
+
+        assertThat(previousFile).doesNotExist();
+    }
+
+    @Test
+    void previousMirroredFileIsKeptWhileReferencedOrRecentlyStored() throws IOException {
+        Path previousFile = previousFile(Instant.now().minus(Duration.ofMinutes(5)));
+        userOAuth(PREVIOUS_URL, "https://lh3.googleusercontent.com/old", "\"v1\"");
+        user(PREVIOUS_URL);
+        // 같은 이미지를 다른 계정이 아직 사용 중
+        when(userOAuthRepository.existsByProfileImageUrl(PREVIOUS_URL)).thenReturn(true);
+
+        mirror(1, 10).mirror(OAuthProvider.GOOGLE, "google-1", imageUrl);
+        assertThat(previousFile).exists();
+
+        // 참조는 없지만 방금 저장된 파일 (다른 스레드가 아직 URL을 커밋하지 않았을 수 있음)
+        Files.setLastModifiedTime(previousFile, FileTime.from(Instant.now()));
+        when(userOAuthRepository.existsByProfileImageUrl(PREVIOUS_URL)).thenReturn(false);
+        userOAuth(PREVIOUS_URL, "https://lh3.googleusercontent.com/old", "\"v1\"");
+
+        mirror(1, 10).mirror(OAuthProvider.GOOGLE, "google-1", imageUrl);
+        assertThat(previousFile).exists();
+    }
+
+    @Test
+    void submitIsSkippedWhenQueueIsFull() {
+        userOAuth(null, null, null);
+        user(null);
+        responseGate = new CountDownLatch(1);
+        ProfileImageMirror mirror = mirror(1, 1);
+
+        // 첫 요청은 응답을 기다리며 스레드를 점유하고, 두 번째는 대기열, 세 번째는 거부
+        mirror.submit(OAuthProvider.GOOGLE, "google-1", imageUrl);
+        mirror.submit(OAuthProvider.GOOGLE, "google-1", imageUrl);
+        mirror.submit(OAuthProvider.GOOGLE, "google-1", imageUrl);
+
+        assertThat(count("rejected")).isEqualTo(1);
+
+        responseGate.countDown();
+        mirror.shutdown();
+    }
+
+    private ProfileImageMirror mirror(int threads, int queueCapacity) {
+        ProfileImageMirrorProperties properties = new ProfileImageMirrorProperties(
+                true, "profile", threads, queueCapacity, DataSize.ofKilobytes(64), Duration.ofSeconds(5),
+                List.of("http"), List.of("127.0.0.1"), 3);
+        ImageUploadProperties imageUploadProperties = new ImageUploadProperties(Map.of(
+                "profile", new ImageUploadProperties.Target(directory.toString(), BASE_URL)));
+        ProfileImageDownloader downloader = new ProfileImageDownloader(WebClient.builder(), properties, imageUploadProperties);
+
+        return new ProfileImageMirror(
+                downloader, userOAuthRepository, userRepository,
+                mock(PlatformTransactionManager.class), properties, meterRegistry);
+    }
+
+    private UserOAuth userOAuth(String profileImageUrl, String sourceUrl, String etag) {
+        UserOAuth userOAuth = UserOAuth.builder()
+                .userId(10L)
+                .provider(OAuthProvider.GOOGLE)
+                .providerId("google-1")
+                .profileImageUrl(profileImageUrl)
+                .profileImageSourceUrl(sourceUrl)
+                .profileImageEtag(etag)
+                .build();
+        ReflectionTestUtils.setField(userOAuth, "id", 1L);
+        when(userOAuthRepository.findByProviderAndProviderId(OAuthProvider.GOOGLE, "google-1"))
+                .thenReturn(Optional.of(userOAuth));
+        when(userOAuthRepository.findById(1L)).thenReturn(Optional.of(userOAuth));
+        return userOAuth;
+    }
+
+    private User user(String profileImageUrl) {
+        User user = User.builder()
+                .username("google_google-1")
+                .profileImageUrl(profileImageUrl)
+                .build();
+        when(userRepository.findById(10L)).thenReturn(Optional.of(user));
+        return user;
+    }
+
+    private Path previousFile(Instant lastModified) throws IOException {
+        Path file = directory.resolve(PREVIOUS_FILE_NAME);
+        Files.write(file, png("previous-image"));
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+        return file;
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("profile.image.mirror").tag("result", result).counter().count();
+    }
+
+    private void serveImage(HttpExchange exchange) throws IOException {
+        try {
+            responseGate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        lastIfNoneMatch.set(ifNoneMatch);
+        if ("\"v1\"".equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = png("current-image");
+        exchange.getResponseHeaders().set("Content-Type", "image/png");
+        exchange.getResponseHeaders().set("ETag", "\"v1\"");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static byte[] png(String content) {
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        byte[] image = new byte[signature.length + body.length];
+        System.arraycopy(signature, 0, image, 0, signature.length);
+        System.arraycopy(body, 0, image, signature.length, body.length);
+        return image;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.entity.RefreshTokenHistory;
+import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.jwt.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenHistoryWriterTest {
+
+    private final RefreshTokenHistoryRepository repository = mock(RefreshTokenHistoryRepository.class);
+
+    private final RefreshTokenHistoryWriter writer = new RefreshTokenHistoryWriter(
+            repository,
+            mock(PlatformTransactionManager.class),
+            new JwtProperties(
+                    null,
+                    null,
+                    null,
+                    new JwtProperties.Refresh(
+                            Duration.ofSeconds(10),
+                            100,
+                            new JwtProperties.History(true, 16, 8),
+                            new JwtProperties.Purge(1000, Duration.ofMillis(50), Duration.ofMinutes(10))
+                    )
+            ),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    void bufferedHistoryIsFoundBeforeItIsWritten() {
+        RefreshTokenHistory history = history("pending", Instant.now().plusSeconds(60));
+        writer.write(history);
+
+        Optional<RefreshTokenHistory> found = writer.findByTokenDigest(history.getTokenDigest());
+
+        assertThat(found).isPresent();
+        verify(repository, never()).findByTokenDigest(any());
+    }
+
+    @Test
+    void historyThatFailedToSaveIsStillTreatedAsUsed() {
+        when(repository.saveAll(anyIterable())).thenThrow(new DataAccessResourceFailureException("down"));
+        when(repository.save(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        RefreshTokenHistory history = history("failed", Instant.now().plusSeconds(60));
+        writer.write(history);
+        writer.flush();
+
+        Optional<RefreshTokenHistory> found = writer.findByTokenDigest(history.getTokenDigest());
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getSessionId()).isEqualTo("failed");
+        verify(repository, never()).findByTokenDigest(any());
+    }
+
+    @Test
+    void historyThatFailedToSaveIsWrittenAgainOnReuseDetection() {
+        when(repository.saveAll(anyIterable())).thenThrow(new DataAccessResourceFailureException("down"));
+        when(repository.save(any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        RefreshTokenHistory history = history("recovered", Instant.now().plusSeconds(60));
+        writer.write(history);
+        writer.flush();
+
+        assertThat(writer.findByTokenDigest(history.getTokenDigest())).isPresent();
+
+        // 다시 저장된 뒤에는 DB에서 조회
+        writer.findByTokenDigest(history.getTokenDigest());
+        verify(repository).findByTokenDigest(history.getTokenDigest());
+    }
+
+    @Test
+    void savedHistoryIsLookedUpInDatabase() {
+        RefreshTokenHistory history = history("saved", Instant.now().plusSeconds(60));
+        writer.write(history);
+        writer.flush();
+
+        writer.findByTokenDigest(history.getTokenDigest());
+
+        verify(repository).findByTokenDigest(history.getTokenDigest());
+    }
+
+    @Test
+    void unsavedHistoryIsDroppedAfterTokenExpiry() {
+        when(repository.saveAll(anyIterable())).thenThrow(new DataAccessResourceFailureException("down"));
+        when(repository.save(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        RefreshTokenHistory history = history("expired", Instant.now().minusSeconds(1));
+        writer.write(history);
+        writer.flush();
+        writer.flush();
+
+        writer.findByTokenDigest(history.getTokenDigest());
+
+        verify(repository).findByTokenDigest(history.getTokenDigest());
+    }
+
+    private static RefreshTokenHistory history(String sessionId, Instant expiryDate) {
+        return RefreshTokenHistory.builder()
+                .tokenDigest(TokenDigest.sha256(sessionId + "-verifier"))
+                .sessionId(sessionId)
+                .usedAt(Instant.now())
+                .expiryDate(expiryDate)
+                .build();
+    }
+}
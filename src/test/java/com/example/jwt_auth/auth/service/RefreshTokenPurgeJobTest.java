@@ -0,0 +1,182 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.repository.ExpiredRowKey;
+import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import com.example.jwt_auth.common.support.JobLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenPurgeJobTest {
+
+    private static final String LEASE_NAME = "refresh-token-purge";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+
+    private static final Instant EXPIRED_1 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant EXPIRED_2 = Instant.parse("2024-01-02T00:00:00Z");
+
+    private final UserSessionRepository userSessionRepository = mock(UserSessionRepository.class);
+    private final RefreshTokenHistoryRepository refreshTokenHistoryRepository = mock(RefreshTokenHistoryRepository.class);
+    private final JobLeaseManager jobLeaseManager = mock(JobLeaseManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RefreshTokenPurgeJob job = new RefreshTokenPurgeJob(
+            userSessionRepository,
+            refreshTokenHistoryRepository,
+            jobLeaseManager,
+            mock(PlatformTransactionManager.class),
+            meterRegistry,
+            new JwtProperties(
+                    null,
+                    null,
+                    null,
+                    new JwtProperties.Refresh(
+                            Duration.ofSeconds(10),
+                            100,
+                            new JwtProperties.History(false, 16, 8),
+                            new JwtProperties.Purge(2, Duration.ofMillis(1), LEASE_DURATION)
+                    )
+            )
+    );
+
+    @Test
+    void cursorAdvancesAcrossRowsWithSameExpiryDate() {
+        leaseAcquired();
+        // 청크 크기 2: [a, b] / [c, d] / [e] 순서로 조회되며, c는 b와 만료 시간이 같음
+        List<ExpiredRowKey<String>> rows = new ArrayList<>(List.of(
+                new ExpiredRowKey<>("e", EXPIRED_2),
+                new ExpiredRowKey<>("c", EXPIRED_1),
+                new ExpiredRowKey<>("a", EXPIRED_1),
+                new ExpiredRowKey<>("d", EXPIRED_2),
+                new ExpiredRowKey<>("b", EXPIRED_1)));
+        expiredSessions(rows);
+
+        job.purgeExpired();
+
+        ArgumentCaptor<Instant> afterExpiryDates = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<String> afterIds = ArgumentCaptor.forClass(String.class);
+        verify(userSessionRepository, times(3))
+                .findExpiredKeys(any(), afterExpiryDates.capture(), afterIds.capture(), eq(Limit.of(2)));
+        assertThat(afterExpiryDates.getAllValues()).containsExactly(Instant.EPOCH, EXPIRED_1, EXPIRED_2);
+        assertThat(afterIds.getAllValues()).containsExactly("", "b", "d");
+
+        ArgumentCaptor<List<String>> deleted = idsCaptor();
+        verify(userSessionRepository, times(3)).deleteAllByIdIn(deleted.capture());
+        assertThat(deleted.getAllValues()).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+        assertThat(deletedCount("user_session")).isEqualTo(5);
+    }
+
+    @Test
+    void shortChunkStopsWithoutAnotherQuery() {
+        leaseAcquired();
+        expiredSessions(new ArrayList<>(List.of(new ExpiredRowKey<>("a", EXPIRED_1))));
+
+        job.purgeExpired();
+
+        verify(userSessionRepository, times(1)).findExpiredKeys(any(), any(), any(), any());
+        verify(userSessionRepository, times(1)).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    void fullLastChunkStopsOnEmptyChunk() {
+        leaseAcquired();
+        expiredSessions(new ArrayList<>(List.of(
+                new ExpiredRowKey<>("a", EXPIRED_1),
+                new ExpiredRowKey<>("b", EXPIRED_1))));
+
+        job.purgeExpired();
+
+        verify(userSessionRepository, times(2)).findExpiredKeys(any(), any(), any(), any());
+        verify(userSessionRepository, times(1)).deleteAllByIdIn(anyList());
+        // 세션 정리가 끝나면 사용 기록도 첫 위치부터 정리
+        verify(refreshTokenHistoryRepository).findExpiredKeys(any(), eq(Instant.EPOCH), eq(0L), eq(Limit.of(2)));
+    }
+
+    @Test
+    void jobIsSkippedWhenOtherNodeHoldsLease() {
+        when(jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)).thenReturn(Optional.empty());
+
+        job.purgeExpired();
+
+        verify(userSessionRepository, never()).findExpiredKeys(any(), any(), any(), any());
+        verify(jobLeaseManager, never()).release(any());
+    }
+
+    @Test
+    void noChunkStartsAfterLeaseDeadline() {
+        // 임대 만료 직전(임대 기간의 1/10 전)이 이미 지남
+        when(jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION))
+                .thenReturn(Optional.of(Instant.now().plus(LEASE_DURATION.dividedBy(20))));
+
+        job.purgeExpired();
+
+        verify(userSessionRepository, never()).findExpiredKeys(any(), any(), any(), any());
+        verify(jobLeaseManager).release(LEASE_NAME);
+    }
+
+    @Test
+    void leaseIsReleasedWhenChunkFails() {
+        leaseAcquired();
+        when(userSessionRepository.findExpiredKeys(any(), any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(job::purgeExpired).isInstanceOf(DataAccessResourceFailureException.class);
+        verify(jobLeaseManager).release(LEASE_NAME);
+    }
+
+    private void leaseAcquired() {
+        when(jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION))
+                .thenReturn(Optional.of(Instant.now().plus(LEASE_DURATION)));
+    }
+
+    /**
+     * 만료 행을 (만료 시간, ID) 키셋 조건대로 돌려주는 저장소 흉내
+     */
+    private void expiredSessions(List<ExpiredRowKey<String>> rows) {
+        rows.sort(Comparator.comparing(ExpiredRowKey<String>::expiryDate).thenComparing(ExpiredRowKey<String>::id));
+        when(userSessionRepository.findExpiredKeys(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Instant afterExpiryDate = invocation.getArgument(1);
+            String afterId = invocation.getArgument(2);
+            Limit limit = invocation.getArgument(3);
+            return rows.stream()
+                    .filter(row -> row.expiryDate().isAfter(afterExpiryDate)
+                            || (row.expiryDate().equals(afterExpiryDate) && row.id().compareTo(afterId) > 0))
+                    .limit(limit.max())
+                    .toList();
+        });
+        when(userSessionRepository.deleteAllByIdIn(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<String>> idsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private double deletedCount(String table) {
+        return meterRegistry.get("refresh.token.purge.deleted").tag("table", table).counter().count();
+    }
+}
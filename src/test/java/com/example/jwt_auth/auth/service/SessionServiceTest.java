@@ -0,0 +1,72 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.entity.enums.Role;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.jwt.AccessTokenDenylist;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionServiceTest {
+
+    private static final UserAuthRecord USER = new UserAuthRecord(1L, "user", null, Role.USER, 0);
+
+    private final UserAuthCache userAuthCache = mock(UserAuthCache.class);
+    private final UserSessionRepository userSessionRepository = mock(UserSessionRepository.class);
+    private final TokenManagementService tokenManagementService = mock(TokenManagementService.class);
+    private final AccessTokenDenylist accessTokenDenylist = mock(AccessTokenDenylist.class);
+
+    private final SessionService sessionService = new SessionService(
+            userAuthCache, userSessionRepository, tokenManagementService, accessTokenDenylist);
+
+    @Test
+    void revokedSessionIsDeletedAndItsAccessTokensAreRevoked() {
+        when(userAuthCache.findByUsername("user")).thenReturn(Optional.of(USER));
+        when(userSessionRepository.deleteByIdAndUserId("session-1", 1L)).thenReturn(1);
+
+        sessionService.revokeSession("user", "session-1");
+
+        verify(accessTokenDenylist).revokeSession("session-1", "user");
+        verify(tokenManagementService, never()).revokeAllTokens(any());
+    }
+
+    @Test
+    void revokingUnknownOrOtherUsersSessionFails() {
+        when(userAuthCache.findByUsername("user")).thenReturn(Optional.of(USER));
+        when(userSessionRepository.deleteByIdAndUserId("session-1", 1L)).thenReturn(0);
+
+        assertThatThrownBy(() -> sessionService.revokeSession("user", "session-1"))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(accessTokenDenylist, never()).revokeSession(any(), any());
+    }
+
+    @Test
+    void revokingAllSessionsRevokesAllTokensOfUser() {
+        when(userAuthCache.findByUsername("user")).thenReturn(Optional.of(USER));
+
+        sessionService.revokeAllSessions("user");
+
+        verify(tokenManagementService).revokeAllTokens(USER);
+        verify(accessTokenDenylist, never()).revokeSession(any(), any());
+    }
+
+    @Test
+    void unknownUserCannotRevokeSessions() {
+        when(userAuthCache.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sessionService.revokeSession("ghost", "session-1"))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> sessionService.revokeAllSessions("ghost"))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(userSessionRepository, never()).deleteByIdAndUserId(any(), any());
+        verify(tokenManagementService, never()).revokeAllTokens(any());
+    }
+}
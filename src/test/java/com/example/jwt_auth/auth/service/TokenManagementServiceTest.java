@@ -0,0 +1,78 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.dto.TokenResponse;
+import com.example.jwt_auth.auth.entity.UserSession;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import com.example.jwt_auth.auth.repository.RefreshTokenHistoryRepository;
+import com.example.jwt_auth.auth.repository.TokenEpochChangeRepository;
+import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.auth.repository.UserSessionRepository;
+import com.example.jwt_auth.common.jwt.AccessTokenDenylist;
+import com.example.jwt_auth.common.jwt.JwtUtil;
+import com.example.jwt_auth.common.jwt.TokenEpochRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenManagementServiceTest {
+
+    private static final String SECRET = "T3h2U1FzY3Z0c3FqZ3R5bXQ1eG5kdXh2c3c4eW9mdG5q";
+    private static final UserAuthRecord USER = new UserAuthRecord(1L, "user", null, Role.USER, 0);
+
+    private final UserSessionRepository userSessionRepository = mock(UserSessionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenEpochRegistry tokenEpochRegistry = mock(TokenEpochRegistry.class);
+
+    private final TokenManagementService tokenManagementService = new TokenManagementService(
+            new JwtUtil(SECRET, 3600),
+            mock(RefreshTokenHistoryRepository.class),
+            userSessionRepository,
+            userRepository,
+            mock(TokenEpochChangeRepository.class),
+            tokenEpochRegistry,
+            mock(AccessTokenDenylist.class)
+    );
+
+    private final UserSession session = UserSession.builder()
+            .id("session-1")
+            .selector("selector-0")
+            .build();
+
+    @Test
+    void rotationReturnsNewTokensWhenSessionRowIsUpdated() {
+        when(userSessionRepository.rotate(eq("session-1"), eq("selector-0"), any(), any(), any(), any())).thenReturn(1);
+
+        Optional<TokenResponse> tokens = tokenManagementService.rotateTokens(USER, session, "selector-0");
+
+        assertThat(tokens).hasValueSatisfying(response -> {
+            assertThat(response.accessToken()).isNotBlank();
+            assertThat(response.refreshToken()).isNotBlank();
+        });
+    }
+
+    @Test
+    void rotationLosingRaceReturnsEmpty() {
+        // 같은 토큰으로 먼저 회전한 요청이 selector를 바꿔 조건부 UPDATE가 0건
+        when(userSessionRepository.rotate(eq("session-1"), eq("selector-0"), any(), any(), any(), any())).thenReturn(0);
+
+        assertThat(tokenManagementService.rotateTokens(USER, session, "selector-0")).isEmpty();
+    }
+
+    @Test
+    void revokingAllTokensDeletesSessionsAndAppliesNewEpoch() {
+        when(userRepository.findTokenEpochById(1L)).thenReturn(1L);
+
+        tokenManagementService.revokeAllTokens(USER);
+
+        verify(userSessionRepository).deleteAllByUserId(1L);
+        verify(userRepository).incrementTokenEpoch(1L);
+        verify(tokenEpochRegistry).apply(eq("user"), eq(1L), any());
+    }
+}
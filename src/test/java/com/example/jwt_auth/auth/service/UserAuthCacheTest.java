@@ -0,0 +1,132 @@
+package com.example.jwt_auth.auth.service;
+
+import com.example.jwt_auth.auth.entity.User;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import com.example.jwt_auth.auth.repository.UserRepository;
+import com.example.jwt_auth.common.config.UserCacheProperties;
+import com.example.jwt_auth.common.jwt.TokenEpochChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAuthCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final UserAuthCache cache = cache(true, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cachedRecordIsReturnedUntilInvalidated() {
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user(1L, "user", 0)));
+
+        cache.findByUsername("user");
+        cache.findByUsername("user");
+        verify(userRepository, times(1)).findByUsername("user");
+
+        cache.invalidate("user");
+        cache.findByUsername("user");
+        verify(userRepository, times(2)).findByUsername("user");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void writeInsideTransactionIsInvalidatedAgainAfterCompletion() {
+        when(userRepository.findByUsername("user"))
+                .thenReturn(Optional.of(user(1L, "user", 0)))
+                .thenReturn(Optional.of(user(1L, "user", 1)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate("user");
+        // 커밋 전에 다른 요청이 변경 전 값을 다시 캐싱
+        assertThat(cache.findByUsername("user")).hasValueSatisfying(record -> assertThat(record.tokenEpoch()).isZero());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cache.findByUsername("user")).hasValueSatisfying(record -> assertThat(record.tokenEpoch()).isEqualTo(1));
+    }
+
+    @Test
+    void recordLoadedDuringInvalidationIsNotCached() {
+        // 조회하는 동안 다른 요청이 같은 사용자를 변경하고 무효화
+        when(userRepository.findByUsername("user")).thenAnswer(invocation -> {
+            cache.invalidate("user");
+            return Optional.of(user(1L, "user", 0));
+        });
+
+        cache.findByUsername("user");
+        cache.findByUsername("user");
+
+        verify(userRepository, times(2)).findByUsername("user");
+    }
+
+    @Test
+    void tokenEpochChangeInvalidatesUsernameAndIdLookups() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "user", 0)));
+
+        cache.findById(1L);
+        cache.findById(1L);
+        verify(userRepository, times(1)).findById(1L);
+
+        cache.onTokenEpochChanged(new TokenEpochChangedEvent("user", 1));
+        cache.findById(1L);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void expiredRecordIsLoadedAgain() throws InterruptedException {
+        UserAuthCache shortLived = cache(true, Duration.ofMillis(50));
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user(1L, "user", 0)));
+
+        shortLived.findByUsername("user");
+        Thread.sleep(100);
+        shortLived.findByUsername("user");
+
+        verify(userRepository, times(2)).findByUsername("user");
+    }
+
+    @Test
+    void disabledCacheAlwaysQueriesDatabase() {
+        UserAuthCache disabled = cache(false, Duration.ofMinutes(1));
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user(1L, "user", 0)));
+
+        disabled.findByUsername("user");
+        disabled.findByUsername("user");
+
+        verify(userRepository, times(2)).findByUsername("user");
+    }
+
+    private UserAuthCache cache(boolean enabled, Duration ttl) {
+        return new UserAuthCache(userRepository, new UserCacheProperties(enabled, ttl, 100), new SimpleMeterRegistry());
+    }
+
+    private static User user(Long id, String username, long tokenEpoch) {
+        User user = User.builder()
+                .username(username)
+                .role(Role.USER)
+                .tokenEpoch(tokenEpoch)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jwt_auth.common.config;
+
+import com.example.jwt_auth.common.jwt.JwtAuthenticationFilter;
+import com.example.jwt_auth.common.jwt.JwtAuthorizationFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 필터 등록에 사용하는 URL 패턴이 서블릿 URL 매핑 규칙으로 실제 요청 경로와 매칭되는지 확인합니다.
+ */
+class FilterConfigTest {
+
+    private final FilterConfig filterConfig = new FilterConfig();
+
+    @Test
+    void authorizationFilterIsMappedToNestedPaths() {
+        Collection<String> urlPatterns = filterConfig
+                .authorizationFilter(mock(JwtAuthorizationFilter.class), filterConfig.roleRules())
+                .getUrlPatterns();
+
+        assertThat(urlPatterns).noneMatch(pattern -> pattern.contains("**") || pattern.contains("{"));
+        assertThat(matchesAny(urlPatterns, "/post")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/post/1")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/post/1/comments")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/sessions/abc")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/auth/signIn")).isFalse();
+    }
+
+    @Test
+    void authenticationFilterIsMappedToNestedPaths() {
+        Collection<String> urlPatterns = filterConfig
+                .authenticationFilter(mock(JwtAuthenticationFilter.class))
+                .getUrlPatterns();
+
+        assertThat(urlPatterns).noneMatch(pattern -> pattern.contains("**"));
+        assertThat(matchesAny(urlPatterns, "/post/1")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/images/a.png")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/sessions")).isTrue();
+        assertThat(matchesAny(urlPatterns, "/auth/signIn")).isFalse();
+    }
+
+    /** 서블릿 명세의 URL 매핑 규칙 (정확한 경로, "/접두사/*", "*.확장자", "/") */
+    private static boolean matchesAny(Collection<String> urlPatterns, String path) {
+        return urlPatterns.stream().anyMatch(pattern -> {
+            if (pattern.equals("/") || pattern.equals("/*")) {
+                return true;
+            }
+            if (pattern.endsWith("/*")) {
+                String prefix = pattern.substring(0, pattern.length() - 2);
+                return path.equals(prefix) || path.startsWith(prefix + "/");
+            }
+            if (pattern.startsWith("*.")) {
+                return path.endsWith(pattern.substring(1));
+            }
+            return path.equals(pattern);
+        });
+    }
+}
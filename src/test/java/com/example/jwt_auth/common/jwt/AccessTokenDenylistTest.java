@@ -0,0 +1,128 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.RevokedSession;
+import com.example.jwt_auth.auth.repository.RevokedAccessTokenRepository;
+import com.example.jwt_auth.auth.repository.RevokedSessionRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDenylistTest {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository = mock(RevokedAccessTokenRepository.class);
+    private final RevokedSessionRepository revokedSessionRepository = mock(RevokedSessionRepository.class);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccessTokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        when(revokedAccessTokenRepository.findJtisNotExpired(any())).thenReturn(List.of());
+        when(revokedSessionRepository.findSessionIdsNotExpired(any())).thenReturn(List.of());
+        denylist = denylist(100);
+    }
+
+    @Test
+    void revokedSessionRejectsOnlyTokensOfThatSession() {
+        when(revokedSessionRepository.existsBySessionId("stolen-session")).thenReturn(false, true);
+
+        denylist.revokeSession("stolen-session", "user");
+
+        assertThat(denylist.isRevoked(principal("jti-1", "stolen-session"))).isTrue();
+        assertThat(denylist.isRevoked(principal("jti-2", "other-device"))).isFalse();
+        assertThat(denylist.isRevoked(principal("jti-3", null))).isFalse();
+    }
+
+    @Test
+    void revokedSessionIsKeptForOneAccessTokenLifetime() {
+        Instant before = Instant.now();
+
+        denylist.revokeSession("stolen-session", "user");
+
+        ArgumentCaptor<RevokedSession> saved = ArgumentCaptor.forClass(RevokedSession.class);
+        verify(revokedSessionRepository).save(saved.capture());
+        assertThat(saved.getValue().getExpiresAt())
+                .isBetween(before.plusSeconds(3600), Instant.now().plusSeconds(3600));
+    }
+
+    @Test
+    void sessionsRevokedOnOtherNodesAreLoadedOnRebuild() {
+        when(revokedSessionRepository.findSessionIdsNotExpired(any())).thenReturn(List.of("remote-session"));
+        when(revokedSessionRepository.existsBySessionId(anyString())).thenReturn(true);
+
+        AccessTokenDenylist rebuilt = denylist(100);
+
+        assertThat(rebuilt.isSessionRevoked("remote-session")).isTrue();
+    }
+
+    @Test
+    void overflowingRebuildIsSizedFromLiveCountAndNotRepeatedOnEveryPoll() {
+        List<String> jtis = IntStream.range(0, 30).mapToObj(i -> "jti-" + i).toList();
+        when(revokedAccessTokenRepository.findJtisNotExpired(any())).thenReturn(jtis);
+        when(revokedAccessTokenRepository.findJtisRevokedSince(any())).thenReturn(List.of());
+        when(revokedSessionRepository.findSessionIdsRevokedSince(any())).thenReturn(List.of());
+
+        AccessTokenDenylist overflowing = denylist(10);
+        clearInvocations(revokedAccessTokenRepository);
+        overflowing.poll();
+        overflowing.poll();
+
+        // 2배 크기로 구성된 뒤에는 폴링마다 다시 구성하지 않고 증분 조회만 수행
+        verify(revokedAccessTokenRepository, never()).findJtisNotExpired(any());
+        verify(revokedAccessTokenRepository, times(2)).findJtisRevokedSince(any());
+        assertThat(meterRegistry.get("jwt.revocation.bloom.capacity").gauge().value()).isEqualTo(60);
+        assertThat(meterRegistry.get("jwt.revocation.bloom.overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void filterFilledByIncrementalPollsIsRebuilt() {
+        when(revokedAccessTokenRepository.findJtisRevokedSince(any()))
+                .thenReturn(IntStream.range(0, 10).mapToObj(i -> "jti-" + i).toList());
+        when(revokedSessionRepository.findSessionIdsRevokedSince(any())).thenReturn(List.of());
+
+        AccessTokenDenylist filling = denylist(10);
+        clearInvocations(revokedAccessTokenRepository);
+        filling.poll();
+        filling.poll();
+
+        // 첫 폴링으로 예상 원소 수만큼 채워지면 다음 폴링에서 새로 구성
+        verify(revokedAccessTokenRepository, times(1)).findJtisNotExpired(any());
+        assertThat(meterRegistry.get("jwt.revocation.bloom.overflow").counter().count()).isZero();
+    }
+
+    private AccessTokenDenylist denylist(int expectedInsertions) {
+        JwtProperties properties = new JwtProperties(
+                null,
+                new JwtProperties.Revocation(expectedInsertions, 0.01, Duration.ofSeconds(30), Duration.ofHours(1)),
+                null,
+                null
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        AccessTokenDenylist created = new AccessTokenDenylist(
+                revokedAccessTokenRepository, revokedSessionRepository, properties, 3600, meterRegistry);
+        created.initialize();
+        return created;
+    }
+
+    private static JwtPrincipal principal(String jti, String sessionId) {
+        return new JwtPrincipal("user", "USER", 0L, 0L, jti, sessionId, Instant.now().plusSeconds(60));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.enums.Permission;
+import com.example.jwt_auth.auth.entity.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthorizationRulesTest {
+
+    private final AuthorizationRules rules = AuthorizationRules.builder()
+            .rule("/post/**", Role.USER)
+            .rule("/post/*", Role.USER)
+            .rule("/post/{id}", Role.USER)
+            .rule("/post/latest", Role.USER)
+            .rule("/post/{id}/comments", Role.USER)
+            .rule("/post/*/likes/**", Role.USER)
+            .rule(HttpMethod.DELETE, "/post/{id}", Permission.POST_DELETE)
+            .rule("/admin/**", Role.ADMIN)
+            .build();
+
+    @Test
+    void literalSegmentWinsOverVariableAndWildcards() {
+        assertThat(patternOf("GET", "/post/latest")).isEqualTo("/post/latest");
+    }
+
+    @Test
+    void pathVariableWinsOverSingleWildcard() {
+        assertThat(patternOf("GET", "/post/1")).isEqualTo("/post/{id}");
+    }
+
+    @Test
+    void singleWildcardWinsOverMultiWildcard() {
+        AuthorizationRules wildcards = AuthorizationRules.builder()
+                .rule("/post/**", Role.USER)
+                .rule("/post/*", Role.ADMIN)
+                .build();
+
+        assertThat(wildcards.match("GET", "/post/1").pattern()).isEqualTo("/post/*");
+        assertThat(wildcards.match("GET", "/post/1/comments").pattern()).isEqualTo("/post/**");
+    }
+
+    @Test
+    void longestMatchingPatternIsApplied() {
+        assertThat(patternOf("GET", "/post/1/comments")).isEqualTo("/post/{id}/comments");
+        assertThat(patternOf("GET", "/post/1/likes/recent")).isEqualTo("/post/*/likes/**");
+    }
+
+    @Test
+    void moreSpecificBranchFallsBackWhenRestOfPathDoesNotMatch() {
+        // "/post/{id}/..."와 "/post/*/likes/**" 모두 "shares"로 이어지지 않으므로 "/post/**"
+        assertThat(patternOf("GET", "/post/1/shares")).isEqualTo("/post/**");
+        // 리터럴 "latest" 아래에 "comments"가 없으면 경로 변수 쪽으로 넘어감
+        assertThat(patternOf("GET", "/post/latest/comments")).isEqualTo("/post/{id}/comments");
+    }
+
+    @Test
+    void methodSpecificRuleWinsOverAnyMethodRuleForSamePattern() {
+        AuthorizationRules.Rule delete = rules.match("DELETE", "/post/1");
+
+        assertThat(delete.method()).isEqualTo("DELETE");
+        assertThat(delete.isGrantedTo(Role.USER.authorities())).isFalse();
+        assertThat(delete.isGrantedTo(Role.ADMIN.authorities())).isTrue();
+        assertThat(rules.match("GET", "/post/1").method()).isNull();
+    }
+
+    @Test
+    void multiWildcardAlsoMatchesItsParentPathAndRepeatedSlashes() {
+        assertThat(patternOf("GET", "/admin")).isEqualTo("/admin/**");
+        assertThat(patternOf("GET", "//admin//users/")).isEqualTo("/admin/**");
+        assertThat(rules.match("GET", "/user/me")).isNull();
+    }
+
+    @Test
+    void rejectsDuplicateAndUnsupportedPatterns() {
+        assertThatThrownBy(() -> AuthorizationRules.builder()
+                .rule("/post/{id}", Role.USER)
+                .rule("/post/{postId}", Role.ADMIN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuthorizationRules.builder().rule("/post/**/comments", Role.USER))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuthorizationRules.builder().rule("/post/p*", Role.USER))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void urlPatternsAreTranslatedToServletMappings() {
+        assertThat(rules.urlPatterns()).containsExactly("/post/*", "/post/latest", "/admin/*");
+        assertThat(AuthorizationRules.toServletUrlPattern("/post/{id}/comments")).isEqualTo("/post/*");
+        assertThat(AuthorizationRules.toServletUrlPattern("/post")).isEqualTo("/post");
+        assertThat(AuthorizationRules.toServletUrlPattern("/**")).isEqualTo("/*");
+        assertThat(AuthorizationRules.toServletUrlPattern("/")).isEqualTo("/");
+    }
+
+    private String patternOf(String method, String path) {
+        return rules.match(method, path).pattern();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.dto.TokenResponse;
+import com.example.jwt_auth.common.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatedRefreshTokenCacheTest {
+
+    private static final TokenResponse SUCCESSOR = new TokenResponse("access-2", "refresh-2");
+
+    @Test
+    void lateRequestWithRotatedTokenGetsSameSuccessorWithinGracePeriod() {
+        RotatedRefreshTokenCache cache = cache(Duration.ofSeconds(10), 100);
+
+        cache.put("refresh-1", "user", SUCCESSOR);
+
+        assertThat(cache.find("refresh-1", "user")).contains(SUCCESSOR);
+        assertThat(cache.find("refresh-1", "user")).contains(SUCCESSOR);
+        assertThat(cache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void successorIsNotReturnedToOtherUserOrForOtherToken() {
+        RotatedRefreshTokenCache cache = cache(Duration.ofSeconds(10), 100);
+
+        cache.put("refresh-1", "user", SUCCESSOR);
+
+        assertThat(cache.find("refresh-1", "other")).isEmpty();
+        assertThat(cache.find("refresh-2", "user")).isEmpty();
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void successorIsNotReturnedAfterGracePeriod() throws InterruptedException {
+        RotatedRefreshTokenCache cache = cache(Duration.ofMillis(50), 100);
+
+        cache.put("refresh-1", "user", SUCCESSOR);
+        Thread.sleep(100);
+
+        assertThat(cache.find("refresh-1", "user")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void rolledBackRotationIsEvicted() {
+        RotatedRefreshTokenCache cache = cache(Duration.ofSeconds(10), 100);
+
+        cache.put("refresh-1", "user", SUCCESSOR);
+        cache.evict("refresh-1");
+
+        assertThat(cache.find("refresh-1", "user")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void zeroGracePeriodDisablesCache() {
+        RotatedRefreshTokenCache cache = cache(Duration.ZERO, 100);
+
+        cache.put("refresh-1", "user", SUCCESSOR);
+
+        assertThat(cache.find("refresh-1", "user")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void fullCacheKeepsExistingSuccessors() {
+        RotatedRefreshTokenCache cache = cache(Duration.ofSeconds(10), 1);
+
+        cache.put("refresh-1", "user", SUCCESSOR);
+        cache.put("refresh-3", "user", new TokenResponse("access-4", "refresh-4"));
+
+        assertThat(cache.find("refresh-1", "user")).contains(SUCCESSOR);
+        assertThat(cache.find("refresh-3", "user")).isEmpty();
+    }
+
+    private static RotatedRefreshTokenCache cache(Duration gracePeriod, int maxSize) {
+        JwtProperties properties = new JwtProperties(
+                null,
+                null,
+                null,
+                new JwtProperties.Refresh(
+                        gracePeriod,
+                        maxSize,
+                        new JwtProperties.History(false, 16, 8),
+                        new JwtProperties.Purge(1000, Duration.ofMillis(50), Duration.ofMinutes(10))
+                )
+        );
+        return new RotatedRefreshTokenCache(properties, new SimpleMeterRegistry());
+    }
+}
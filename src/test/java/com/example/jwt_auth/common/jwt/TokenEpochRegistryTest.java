@@ -0,0 +1,130 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.auth.entity.TokenEpochChange;
+import com.example.jwt_auth.auth.repository.TokenEpochChangeRepository;
+import com.example.jwt_auth.common.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenEpochRegistryTest {
+
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+    private final TokenEpochChangeRepository tokenEpochChangeRepository = mock(TokenEpochChangeRepository.class);
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void tokenIssuedBeforeEpochIncrementIsNotCurrent() {
+        TokenEpochRegistry registry = registry();
+
+        assertThat(registry.isCurrent(principal("user", 0))).isTrue();
+
+        registry.apply("user", 1, Instant.now());
+
+        assertThat(registry.isCurrent(principal("user", 0))).isFalse();
+        assertThat(registry.isCurrent(principal("user", 1))).isTrue();
+        assertThat(registry.isCurrent(principal("other", 0))).isTrue();
+    }
+
+    @Test
+    void olderEpochDoesNotReplaceNewerOne() {
+        TokenEpochRegistry registry = registry();
+
+        registry.apply("user", 2, Instant.now());
+        registry.apply("user", 1, Instant.now());
+
+        assertThat(registry.isCurrent(principal("user", 1))).isFalse();
+        assertThat(events).containsExactly(new TokenEpochChangedEvent("user", 2));
+    }
+
+    @Test
+    void changesFromOtherNodesAreAppliedWhilePolling() {
+        TokenEpochRegistry registry = registry();
+        when(tokenEpochChangeRepository.findByChangedAtGreaterThanEqual(any()))
+                .thenReturn(List.of(change("user", 1, Instant.now()), change("other", 3, Instant.now())));
+
+        registry.poll();
+
+        assertThat(registry.isCurrent(principal("user", 0))).isFalse();
+        assertThat(registry.isCurrent(principal("other", 2))).isFalse();
+        assertThat(events).containsExactly(
+                new TokenEpochChangedEvent("user", 1),
+                new TokenEpochChangedEvent("other", 3));
+    }
+
+    @Test
+    void pollQueriesFromPreviousWatermarkMinusOverlap() {
+        Instant beforeInitialize = Instant.now();
+        TokenEpochRegistry registry = registry();
+        Instant afterInitialize = Instant.now();
+
+        registry.poll();
+        Instant afterFirstPoll = Instant.now();
+        registry.poll();
+
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(tokenEpochChangeRepository, times(3)).findByChangedAtGreaterThanEqual(since.capture());
+        // 초기 적재는 액세스 토큰 유효 기간만큼, 이후 폴링은 직전 폴링 시각 - 겹침 구간부터 조회
+        assertThat(since.getAllValues().get(0)).isBetween(
+                beforeInitialize.minusSeconds(3600), afterInitialize.minusSeconds(3600));
+        assertThat(since.getAllValues().get(1)).isBetween(
+                beforeInitialize.minus(POLL_OVERLAP), afterInitialize.minus(POLL_OVERLAP));
+        assertThat(since.getAllValues().get(2)).isBetween(
+                afterInitialize.minus(POLL_OVERLAP), afterFirstPoll.minus(POLL_OVERLAP));
+    }
+
+    @Test
+    void changeSeenAgainInOverlapIsPublishedOnce() {
+        TokenEpochRegistry registry = registry();
+        when(tokenEpochChangeRepository.findByChangedAtGreaterThanEqual(any()))
+                .thenReturn(List.of(change("user", 1, Instant.now())));
+
+        registry.poll();
+        registry.poll();
+
+        assertThat(events).containsExactly(new TokenEpochChangedEvent("user", 1));
+    }
+
+    @Test
+    void changeOlderThanAccessTokenLifetimeIsRemovedWhilePolling() {
+        TokenEpochRegistry registry = registry();
+        registry.apply("user", 1, Instant.now().minus(Duration.ofHours(2)));
+        assertThat(registry.isCurrent(principal("user", 0))).isFalse();
+
+        registry.poll();
+
+        // 이전 세대의 토큰은 이미 모두 만료되었으므로 더 이상 기억할 필요 없음
+        assertThat(registry.isCurrent(principal("user", 0))).isTrue();
+    }
+
+    private TokenEpochRegistry registry() {
+        JwtProperties properties = new JwtProperties(null, null, new JwtProperties.Epoch(POLL_OVERLAP), null);
+        TokenEpochRegistry registry = new TokenEpochRegistry(tokenEpochChangeRepository, events::add, properties, 3600);
+        registry.initialize();
+        return registry;
+    }
+
+    private static TokenEpochChange change(String username, long epoch, Instant changedAt) {
+        return TokenEpochChange.builder()
+                .username(username)
+                .epoch(epoch)
+                .changedAt(changedAt)
+                .build();
+    }
+
+    private static JwtPrincipal principal(String username, long epoch) {
+        return new JwtPrincipal(username, "USER", 0L, epoch, "jti", null, Instant.now().plusSeconds(60));
+    }
+}
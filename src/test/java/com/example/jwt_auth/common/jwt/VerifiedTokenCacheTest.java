@@ -0,0 +1,93 @@
+package com.example.jwt_auth.common.jwt;
+
+import com.example.jwt_auth.common.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void returnsCachedPrincipalWithoutVerifyingAgain() {
+        VerifiedTokenCache cache = cache(true, 10);
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+
+        JwtPrincipal first = cache.getOrVerify("token", verifier);
+        JwtPrincipal second = cache.getOrVerify("token", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void neverReturnsPrincipalAfterExpiry() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true, 10);
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusMillis(200));
+
+        cache.getOrVerify("token", verifier);
+        Thread.sleep(300);
+
+        assertThatThrownBy(() -> cache.getOrVerify("token", token -> {
+            throw new IllegalArgumentException("expired");
+        })).hasMessage("expired");
+    }
+
+    @Test
+    void scheduledPurgeRemovesExpiredPrincipals() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true, 10);
+        cache.getOrVerify("short", verifier(Instant.now().plusMillis(100)));
+        cache.getOrVerify("long", verifier(Instant.now().plusSeconds(60)));
+        Thread.sleep(200);
+
+        cache.purgeExpired();
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotGrowBeyondMaxSize() {
+        VerifiedTokenCache cache = cache(true, 2);
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+
+        cache.getOrVerify("a", verifier);
+        cache.getOrVerify("b", verifier);
+        cache.getOrVerify("c", verifier);
+        cache.getOrVerify("c", verifier);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(verifications).hasValue(4);
+    }
+
+    @Test
+    void verifiesEveryTimeWhenDisabled() {
+        VerifiedTokenCache cache = cache(false, 10);
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+
+        cache.getOrVerify("token", verifier);
+        cache.getOrVerify("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private VerifiedTokenCache cache(boolean enabled, int maxSize) {
+        JwtProperties properties = new JwtProperties(new JwtProperties.Cache(enabled, maxSize), null, null, null);
+        return new VerifiedTokenCache(properties, new SimpleMeterRegistry());
+    }
+
+    private Function<String, JwtPrincipal> verifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new JwtPrincipal(token, "USER", 0L, 0L, "jti-" + token, null, expiresAt);
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jwt_auth.common.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void returnsValueUntilExpiry() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("key", "value", NOW.plusSeconds(10), NOW);
+
+        assertThat(cache.get("key", NOW.plusSeconds(9))).isEqualTo("value");
+        assertThat(cache.get("key", NOW.plusSeconds(10))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void doesNotCacheAlreadyExpiredValue() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+
+        assertThat(cache.put("key", "value", NOW, NOW)).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void rejectsNewEntriesWhenFullOfLiveEntries() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2);
+        cache.put("a", "1", NOW.plusSeconds(10), NOW);
+        cache.put("b", "2", NOW.plusSeconds(10), NOW);
+
+        assertThat(cache.put("c", "3", NOW.plusSeconds(10), NOW)).isFalse();
+        assertThat(cache.get("a", NOW)).isEqualTo("1");
+        assertThat(cache.get("c", NOW)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void insertPurgesExpiredEntriesToMakeRoom() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2);
+        cache.put("a", "1", NOW.plusSeconds(1), NOW);
+        cache.put("b", "2", NOW.plusSeconds(10), NOW);
+
+        assertThat(cache.put("c", "3", NOW.plusSeconds(10), NOW.plusSeconds(5))).isTrue();
+        assertThat(cache.get("b", NOW.plusSeconds(5))).isEqualTo("2");
+        assertThat(cache.get("c", NOW.plusSeconds(5))).isEqualTo("3");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void purgeRemovesOnlyExpiredEntriesInExpiryOrder() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("late", "3", NOW.plusSeconds(30), NOW);
+        cache.put("early", "1", NOW.plusSeconds(10), NOW);
+        cache.put("middle", "2", NOW.plusSeconds(20), NOW);
+
+        cache.purgeExpired(NOW.plusSeconds(20));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("late", NOW.plusSeconds(20))).isEqualTo("3");
+    }
+
+    @Test
+    void putReplacesAndPutIfAbsentKeepsExistingValue() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("key", "first", NOW.plusSeconds(10), NOW);
+
+        assertThat(cache.putIfAbsent("key", "second", NOW.plusSeconds(10), NOW)).isFalse();
+        assertThat(cache.get("key", NOW)).isEqualTo("first");
+
+        assertThat(cache.put("key", "third", NOW.plusSeconds(20), NOW)).isTrue();
+        assertThat(cache.get("key", NOW.plusSeconds(15))).isEqualTo("third");
+        assertThat(cache.size()).isEqualTo(1);
+
+        // 교체된 항목의 만료 시간이 남아 새 항목을 지우지 않아야 함
+        cache.purgeExpired(NOW.plusSeconds(15));
+        assertThat(cache.get("key", NOW.plusSeconds(15))).isEqualTo("third");
+    }
+
+    @Test
+    void removeReturnsValueAndFreesSlot() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(1);
+        cache.put("a", "1", NOW.plusSeconds(10), NOW);
+
+        assertThat(cache.remove("a")).isEqualTo("1");
+        assertThat(cache.remove("a")).isNull();
+        assertThat(cache.put("b", "2", NOW.plusSeconds(10), NOW)).isTrue();
+    }
+}
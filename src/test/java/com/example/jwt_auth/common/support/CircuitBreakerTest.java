@@ -0,0 +1,126 @@
+package com.example.jwt_auth.common.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        acquire(breaker).onSuccess();
+        acquire(breaker).onFailure();
+        acquire(breaker).onSuccess();
+        // 최소 호출 수(4)에 도달하기 전에는 열리지 않음
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        acquire(breaker).onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    void allowsTrialCallsAfterOpenDuration() throws InterruptedException {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+
+        Thread.sleep(100);
+
+        assertThat(breaker.tryAcquirePermission()).isPresent();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isPresent();
+        // 시험 호출 수(2)를 넘으면 거절
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    void closesWhenAllTrialCallsSucceed() throws InterruptedException {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        Thread.sleep(100);
+
+        CircuitBreaker.Permit first = acquire(breaker);
+        CircuitBreaker.Permit second = acquire(breaker);
+        first.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        second.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void reopensWhenTrialCallFails() throws InterruptedException {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        Thread.sleep(100);
+
+        acquire(breaker).onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    void releasedTrialPermitCanBeAcquiredAgain() throws InterruptedException {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        Thread.sleep(100);
+
+        CircuitBreaker.Permit cancelled = acquire(breaker);
+        acquire(breaker);
+        cancelled.release();
+        // 같은 허용을 두 번 반환해도 한 번만 되돌림
+        cancelled.release();
+
+        assertThat(breaker.tryAcquirePermission()).isPresent();
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    void callAdmittedWhileClosedDoesNotCountAsTrialResult() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        CircuitBreaker.Permit slowSuccess = acquire(breaker);
+        CircuitBreaker.Permit slowFailure = acquire(breaker);
+        CircuitBreaker.Permit cancelled = acquire(breaker);
+        trip(breaker);
+        Thread.sleep(100);
+        CircuitBreaker.Permit trial = acquire(breaker);
+        CircuitBreaker.Permit otherTrial = acquire(breaker);
+
+        // CLOSED에서 허용된 호출이 HALF_OPEN 전환 뒤에 끝남
+        slowSuccess.onSuccess();
+        slowFailure.onFailure();
+        cancelled.release();
+        otherTrial.onSuccess();
+
+        // 시험 호출 성공은 하나뿐이고, 반환된 허용도 시험 호출 수를 늘리지 않음
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+
+        trial.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static CircuitBreaker breaker(Duration openDuration) {
+        return new CircuitBreaker(50, 4, 4, openDuration, 2);
+    }
+
+    private static CircuitBreaker tripped(Duration openDuration) {
+        CircuitBreaker breaker = breaker(openDuration);
+        trip(breaker);
+        return breaker;
+    }
+
+    private static void trip(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            acquire(breaker).onFailure();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static CircuitBreaker.Permit acquire(CircuitBreaker breaker) {
+        return breaker.tryAcquirePermission().orElseThrow();
+    }
+}
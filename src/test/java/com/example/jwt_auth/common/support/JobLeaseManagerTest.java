@@ -0,0 +1,95 @@
+package com.example.jwt_auth.common.support;
+
+import com.example.jwt_auth.auth.repository.JobLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobLeaseManagerTest {
+
+    private static final Duration DURATION = Duration.ofMinutes(10);
+
+    private final JobLeaseRepository jobLeaseRepository = mock(JobLeaseRepository.class);
+    private final JobLeaseManager jobLeaseManager = new JobLeaseManager(jobLeaseRepository);
+
+    @Test
+    void expiredLeaseIsAcquiredWithConditionalUpdate() {
+        when(jobLeaseRepository.acquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+        Instant before = Instant.now();
+
+        Optional<Instant> lease = jobLeaseManager.tryAcquire("job", DURATION);
+
+        assertThat(lease).hasValueSatisfying(lockedUntil ->
+                assertThat(lockedUntil).isBetween(before.plus(DURATION), Instant.now().plus(DURATION)));
+        verify(jobLeaseRepository, never()).create(any(), any(), any());
+    }
+
+    @Test
+    void missingLeaseRowIsCreated() {
+        when(jobLeaseRepository.existsById("job")).thenReturn(false);
+
+        Optional<Instant> lease = jobLeaseManager.tryAcquire("job", DURATION);
+
+        assertThat(lease).isPresent();
+        verify(jobLeaseRepository).create(eq("job"), anyString(), eq(lease.get()));
+    }
+
+    @Test
+    void leaseHeldByOtherNodeIsSkipped() {
+        when(jobLeaseRepository.existsById("job")).thenReturn(true);
+
+        assertThat(jobLeaseManager.tryAcquire("job", DURATION)).isEmpty();
+        verify(jobLeaseRepository, never()).create(any(), any(), any());
+    }
+
+    @Test
+    void leaseRowCreatedConcurrentlyByOtherNodeIsSkipped() {
+        when(jobLeaseRepository.existsById("job")).thenReturn(false);
+        when(jobLeaseRepository.create(eq("job"), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(jobLeaseManager.tryAcquire("job", DURATION)).isEmpty();
+    }
+
+    @Test
+    void leaseHeldBySameNodeIsRenewedAndReleasedAsSameOwner() {
+        when(jobLeaseRepository.acquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+
+        Instant first = jobLeaseManager.tryAcquire("job", DURATION).orElseThrow();
+        Instant renewed = jobLeaseManager.tryAcquire("job", DURATION).orElseThrow();
+        jobLeaseManager.release("job");
+
+        // 같은 소유자로 다시 획득하면 만료 시간이 연장됨 (조건부 UPDATE의 owner = :owner 조건)
+        ArgumentCaptor<String> owners = ArgumentCaptor.forClass(String.class);
+        verify(jobLeaseRepository, times(2)).acquire(eq("job"), owners.capture(), any(), any());
+        assertThat(owners.getAllValues().get(1)).isEqualTo(owners.getAllValues().get(0));
+        assertThat(renewed).isAfterOrEqualTo(first);
+        verify(jobLeaseRepository).release(eq("job"), eq(owners.getValue()), any());
+    }
+
+    @Test
+    void eachManagerUsesDistinctOwner() {
+        JobLeaseManager otherNode = new JobLeaseManager(jobLeaseRepository);
+
+        jobLeaseManager.release("job");
+        otherNode.release("job");
+
+        ArgumentCaptor<String> owners = ArgumentCaptor.forClass(String.class);
+        verify(jobLeaseRepository, times(2)).release(eq("job"), owners.capture(), any());
+        assertThat(owners.getAllValues().get(0)).isNotEqualTo(owners.getAllValues().get(1));
+    }
+}